@@ -0,0 +1,71 @@
+package com.debate.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 관리자 검색에 필요한 FULLTEXT(ngram) 인덱스를 보장하는 컴포넌트.
+ * <p>
+ * JPA ddl-auto로는 FULLTEXT 인덱스를 만들 수 없으므로 스키마 갱신 이후 인덱스 존재 여부를 확인하고 없으면 생성한다.
+ * 토론 인덱스는 사용자 백엔드와 동일한 이름을 사용한다. 두 서버가 동시에 기동하여 둘 다 인덱스가 없다고 판단하면
+ * 나중에 실행된 ALTER는 중복 인덱스 오류(1061)로 실패하는데, 이미 생성된 것이므로 무시하고 기동을 계속한다.
+ * 인덱스 생성은 해당 테이블 쓰기를 막으므로 최초 배포(인덱스가 없을 때)에만 발생한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements InitializingBean {
+    // MySQL 중복 인덱스 이름 오류 코드
+    private static final int ER_DUP_KEYNAME = 1061;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        ensureIndex("debate", "ft_debate_title_content", "title, content");
+        ensureIndex("comments", "ft_comment_content", "content");
+        ensureIndex("users", "ft_user_email_nickname", "email, nickname");
+    }
+
+    /**
+     * 인덱스가 없으면 ngram 파서를 사용하는 FULLTEXT 인덱스를 생성한다.
+     *
+     * @param table     테이블명
+     * @param indexName 인덱스명
+     * @param columns   인덱스 대상 컬럼 목록
+     */
+    private void ensureIndex(String table, String indexName, String columns) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        log.info("[ADMIN-SEARCH] FULLTEXT 인덱스 생성 - {}({}) {}", table, columns, indexName);
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName +
+                    " (" + columns + ") WITH PARSER ngram");
+        } catch (DataAccessException e) {
+            if (!isDuplicateKeyName(e)) {
+                throw e;
+            }
+            log.info("[ADMIN-SEARCH] FULLTEXT 인덱스가 이미 생성됨 (다른 서버에서 생성) - {}", indexName);
+        }
+    }
+
+    private static boolean isDuplicateKeyName(DataAccessException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException cause
+                && cause.getErrorCode() == ER_DUP_KEYNAME;
+    }
+}
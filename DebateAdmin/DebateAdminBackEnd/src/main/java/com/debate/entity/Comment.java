@@ -2,6 +2,7 @@ package com.debate.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -77,9 +78,19 @@ public class Comment {
     private LocalDateTime updatedAt;
 
     /**
-     * 좋아요 수 (가상 컬럼)
+     * 대댓글 수 (비정규화 카운터, 증감 쿼리로만 갱신)
      */
-    @org.hibernate.annotations.Formula("(select count(*) from comment_likes cl where cl.comment_id = id)")
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @org.hibernate.annotations.Comment("대댓글 수")
+    private int replyCount;
+
+    /**
+     * 좋아요 수 (비정규화 카운터, 사용자 앱의 좋아요 토글에서 갱신)
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @org.hibernate.annotations.Comment("좋아요 수")
     private int likeCount;
 }
 
@@ -3,6 +3,7 @@ package com.debate.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -57,6 +58,10 @@ public class Debate {
     @Comment("토론 내용")
     private String content;
 
+    @Column(length = 200)
+    @Comment("본문 미리보기")
+    private String excerpt;
+
     @Column(name = "start_date", nullable = false)
     @Comment("토론 시작 일시")
     private LocalDateTime startDate;
@@ -76,11 +81,33 @@ public class Debate {
     @Builder.Default
     private Boolean isHidden = false;
 
-    @Column(name = "view_count", nullable = false)
+    /** 조회수 (사용자 백엔드가 배치 증가 쿼리로 관리, 엔티티 저장 시 쓰지 않음) */
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Comment("조회수")
     @Builder.Default
     private Integer viewCount = 0;
 
+    /** 좋아요 수 (사용자 백엔드가 관리하는 비정규화 카운터, 엔티티 저장 시 쓰지 않음) */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("좋아요 수")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    /** 숨김 제외 댓글 수 (비정규화 카운터) */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("댓글 수 (숨김 제외)")
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    /** 의견 수 (비정규화 카운터) */
+    @Column(name = "opinion_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("의견 수")
+    @Builder.Default
+    private Long opinionCount = 0L;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     @Comment("생성 일시")
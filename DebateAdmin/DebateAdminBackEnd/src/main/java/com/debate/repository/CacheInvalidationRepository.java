@@ -0,0 +1,12 @@
+package com.debate.repository;
+
+import com.debate.entity.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 캐시 무효화 요청 리포지토리.
+ */
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+}
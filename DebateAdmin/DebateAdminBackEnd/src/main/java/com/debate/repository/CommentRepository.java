@@ -6,6 +6,7 @@ import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,5 +40,24 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> searchComments(@Param("keyword") String keyword,
                                 @Param("isHidden") Boolean isHidden,
                                 Pageable pageable);
-}
 
+    /**
+     * FULLTEXT(ngram) 인덱스를 사용한 댓글 검색. 관련도 순, 동일 관련도는 최신순으로 정렬한다.
+     */
+    @Query(value = "SELECT c.* FROM comments c WHERE " +
+           "MATCH(c.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:isHidden IS NULL OR c.is_hidden = :isHidden) " +
+           "ORDER BY MATCH(c.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, c.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM comments c WHERE " +
+           "MATCH(c.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:isHidden IS NULL OR c.is_hidden = :isHidden)",
+           nativeQuery = true)
+    Page<Comment> searchCommentsByFullText(@Param("keyword") String keyword,
+                                          @Param("isHidden") Boolean isHidden,
+                                          Pageable pageable);
+
+    /** 부모 댓글의 대댓글 수 카운터를 원자적으로 증감 */
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int adjustReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+}
@@ -6,7 +6,9 @@ import com.debate.entity.Category;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -46,16 +48,36 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
                            @Param("isHidden") Boolean isHidden,
                            Pageable pageable);
     
+    /**
+     * FULLTEXT(ngram) 인덱스를 사용한 토론 검색. 관련도 순, 동일 관련도는 최신순으로 정렬한다.
+     */
+    @Query(value = "SELECT d.* FROM debate d WHERE " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR d.status = :status) " +
+           "AND (:isHidden IS NULL OR d.is_hidden = :isHidden) " +
+           "ORDER BY MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, d.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM debate d WHERE " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR d.status = :status) " +
+           "AND (:isHidden IS NULL OR d.is_hidden = :isHidden)",
+           nativeQuery = true)
+    Page<Debate> searchDebatesByFullText(@Param("keyword") String keyword,
+                                         @Param("status") String status,
+                                         @Param("isHidden") Boolean isHidden,
+                                         Pageable pageable);
+
     /** 시작일 기준으로 상태를 가진 토론 조회 (스케줄러 용도) */
     List<Debate> findByStatusAndStartDateLessThanEqual(DebateStatus status, LocalDateTime now);
 
     /** 종료일 기준으로 상태를 가진 토론 조회 (스케줄러 용도) */
     List<Debate> findByStatusAndEndDateLessThanEqual(DebateStatus status, LocalDateTime now);
     
-    @Query("SELECT d FROM Debate d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
     /**
      * 조회수가 높은 공개 토론을 상위 N개 반환.
+     * 작성자/카테고리를 함께 조회하고 좋아요/댓글/의견 수는 카운터 컬럼을 사용하므로 행별 추가 쿼리가 없다.
      */
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT d FROM Debate d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
     List<Debate> findTopByOrderByViewCountDesc(Pageable pageable);
     
     /** 상태별 토론 수 카운트 */
@@ -63,5 +85,10 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
 
     /** 숨김되지 않은 토론 수 카운트 */
     long countByIsHiddenFalse();
+
+    /** 숨김 제외 댓글 수 카운터를 원자적으로 증감 (댓글 숨김/삭제 시) */
+    @Modifying
+    @Query(value = "UPDATE debate SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :debateId", nativeQuery = true)
+    int adjustCommentCount(@Param("debateId") Long debateId, @Param("delta") long delta);
 }
 
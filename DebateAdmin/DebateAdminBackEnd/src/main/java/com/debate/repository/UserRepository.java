@@ -29,5 +29,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> searchUsers(@Param("keyword") String keyword, 
                           @Param("status") User.UserStatus status, 
                           Pageable pageable);
+
+    /**
+     * FULLTEXT(ngram) 인덱스를 사용한 회원 검색. 관련도 순, 동일 관련도는 최신 가입순으로 정렬한다.
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE " +
+           "MATCH(u.email, u.nickname) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR u.status = :status) " +
+           "ORDER BY MATCH(u.email, u.nickname) AGAINST (:keyword IN BOOLEAN MODE) DESC, u.created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM users u WHERE " +
+           "MATCH(u.email, u.nickname) AGAINST (:keyword IN BOOLEAN MODE) " +
+           "AND (:status IS NULL OR u.status = :status)",
+           nativeQuery = true)
+    Page<User> searchUsersByFullText(@Param("keyword") String keyword,
+                                    @Param("status") String status,
+                                    Pageable pageable);
 }
 
@@ -1,13 +1,16 @@
 package com.debate.service;
 
 import com.debate.dto.response.CommentResponse;
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.Comment;
 import com.debate.entity.Debate;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.CommentRepository;
 import com.debate.repository.DebateRepository;
+import com.debate.util.FullTextKeyword;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,7 @@ import java.util.stream.Collectors;
 public class AdminCommentService {
     private final CommentRepository commentRepository;
     private final DebateRepository debateRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 특정 토론의 댓글을 페이지 조회한다. (숨김 댓글 포함)
@@ -54,6 +58,8 @@ public class AdminCommentService {
 
     /**
      * 조건에 맞는 댓글을 페이지 조회한다.
+     * <p>
+     * 키워드가 FULLTEXT로 검색 가능하면 관련도 순으로, 그렇지 않으면 LIKE 검색으로 조회한다.
      *
      * @param keyword  댓글 내용 검색어
      * @param isHidden 숨김 여부 필터
@@ -61,6 +67,12 @@ public class AdminCommentService {
      * @return 댓글 페이지 결과
      */
     public Page<Comment> searchComments(String keyword, Boolean isHidden, Pageable pageable) {
+        String fullTextQuery = FullTextKeyword.toBooleanQuery(keyword);
+        if (fullTextQuery != null) {
+            // 관련도 순 정렬은 쿼리에서 지정하므로 정렬 없는 Pageable 사용
+            return commentRepository.searchCommentsByFullText(fullTextQuery, isHidden,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return commentRepository.searchComments(keyword, isHidden, pageable);
     }
 
@@ -86,7 +98,11 @@ public class AdminCommentService {
     public Comment toggleCommentHidden(Long commentId) {
         Comment comment = getCommentById(commentId);
         comment.setIsHidden(!comment.getIsHidden());
-        return commentRepository.save(comment);
+        Comment updated = commentRepository.save(comment);
+        // 토론의 숨김 제외 댓글 수 카운터 보정
+        debateRepository.adjustCommentCount(updated.getDebate().getId(), updated.getIsHidden() ? -1 : 1);
+        cacheInvalidationService.publish(CacheInvalidation.COMMENT_PAGE, updated.getDebate().getId());
+        return updated;
     }
 
     /**
@@ -97,7 +113,17 @@ public class AdminCommentService {
     @Transactional
     public void deleteComment(Long commentId) {
         Comment comment = getCommentById(commentId);
+        Long debateId = comment.getDebate().getId();
+        boolean counted = !comment.getIsHidden();
         commentRepository.delete(comment);
+        if (counted) {
+            debateRepository.adjustCommentCount(debateId, -1);
+        }
+        // 대댓글이면 부모 댓글의 대댓글 수 카운터 보정
+        if (comment.getParent() != null) {
+            commentRepository.adjustReplyCount(comment.getParent().getId(), -1);
+        }
+        cacheInvalidationService.publish(CacheInvalidation.COMMENT_PAGE, debateId);
     }
 }
 
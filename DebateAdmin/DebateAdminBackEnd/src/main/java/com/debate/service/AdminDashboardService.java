@@ -86,6 +86,8 @@ public class AdminDashboardService {
 
     /**
      * 조회수가 높은 토론을 조회한다.
+     * <p>
+     * 작성자/카테고리는 한 번의 조회로 함께 가져오고, 참여 지표는 토론 행의 카운터 컬럼을 그대로 사용한다.
      *
      * @param limit 조회 상위 개수
      * @return 인기 토론 목록
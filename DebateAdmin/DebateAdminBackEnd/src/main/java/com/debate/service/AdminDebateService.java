@@ -1,11 +1,15 @@
 package com.debate.service;
 
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.Debate;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
+import com.debate.util.FullTextKeyword;
+import com.debate.util.HtmlExcerpt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,9 +26,12 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminDebateService {
     private final DebateRepository debateRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 조건에 맞는 토론을 페이지 조회한다.
+     * <p>
+     * 키워드가 FULLTEXT로 검색 가능하면 관련도 순으로, 그렇지 않으면 LIKE 검색으로 조회한다.
      *
      * @param keyword  제목/내용 검색 키워드
      * @param status   토론 상태
@@ -35,6 +42,13 @@ public class AdminDebateService {
     public Page<Debate> searchDebates(String keyword, Debate.DebateStatus status, Boolean isHidden, Pageable pageable) {
         log.debug("[ADMIN-DEBATE] 토론 검색 - keyword={}, status={}, isHidden={} page={} size={}",
                 keyword, status, isHidden, pageable.getPageNumber(), pageable.getPageSize());
+        String fullTextQuery = FullTextKeyword.toBooleanQuery(keyword);
+        if (fullTextQuery != null) {
+            // 관련도 순 정렬은 쿼리에서 지정하므로 정렬 없는 Pageable 사용
+            return debateRepository.searchDebatesByFullText(fullTextQuery,
+                    status != null ? status.name() : null, isHidden,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return debateRepository.searchDebates(keyword, status, isHidden, pageable);
     }
 
@@ -67,10 +81,15 @@ public class AdminDebateService {
     public Debate updateDebate(Long debateId, String title, String content, LocalDateTime startDate, LocalDateTime endDate) {
         Debate debate = getDebateById(debateId);
         if (title != null) debate.setTitle(title);
-        if (content != null) debate.setContent(content);
+        if (content != null) {
+            debate.setContent(content);
+            debate.setExcerpt(HtmlExcerpt.of(content));
+        }
         if (startDate != null) debate.setStartDate(startDate);
         if (endDate != null) debate.setEndDate(endDate);
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_STATE, updated.getId());
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_LIST, updated.getId());
         log.info("[ADMIN-DEBATE] 토론 수정 - debateId={}, title={}", updated.getId(), updated.getTitle());
         return updated;
     }
@@ -87,6 +106,8 @@ public class AdminDebateService {
         Debate debate = getDebateById(debateId);
         debate.setStatus(status);
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_STATE, updated.getId());
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_LIST, updated.getId());
         log.info("[ADMIN-DEBATE] 토론 상태 변경 - debateId={}, status={}", updated.getId(), updated.getStatus());
         return updated;
     }
@@ -102,6 +123,8 @@ public class AdminDebateService {
         Debate debate = getDebateById(debateId);
         debate.setIsHidden(!debate.getIsHidden());
         Debate updated = debateRepository.save(debate);
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_STATE, updated.getId());
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_LIST, updated.getId());
         log.info("[ADMIN-DEBATE] 토론 숨김 토글 - debateId={}, hidden={}", updated.getId(), updated.getIsHidden());
         return updated;
     }
@@ -115,6 +138,8 @@ public class AdminDebateService {
     public void deleteDebate(Long debateId) {
         Debate debate = getDebateById(debateId);
         debateRepository.delete(debate);
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_STATE, debateId);
+        cacheInvalidationService.publish(CacheInvalidation.DEBATE_LIST, debateId);
         log.info("[ADMIN-DEBATE] 토론 삭제 - debateId={}", debateId);
     }
 }
@@ -1,14 +1,17 @@
 package com.debate.service;
 
 import com.debate.dto.response.UserDetailResponse;
+import com.debate.entity.CacheInvalidation;
 import com.debate.entity.User;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CommentRepository;
 import com.debate.repository.UserRepository;
+import com.debate.util.FullTextKeyword;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,9 +26,12 @@ public class AdminUserService {
     private final UserRepository userRepository;
     private final DebateRepository debateRepository;
     private final CommentRepository commentRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 조건에 맞는 회원을 페이지 조회한다.
+     * <p>
+     * 키워드가 FULLTEXT로 검색 가능하면 관련도 순으로, 그렇지 않으면 LIKE 검색으로 조회한다.
      *
      * @param keyword  검색 키워드
      * @param status   회원 상태 필터
@@ -35,6 +41,13 @@ public class AdminUserService {
     public Page<User> searchUsers(String keyword, User.UserStatus status, Pageable pageable) {
         log.debug("[ADMIN-USER] 회원 검색 - keyword={}, status={}, page={}, size={}",
                 keyword, status, pageable.getPageNumber(), pageable.getPageSize());
+        String fullTextQuery = FullTextKeyword.toBooleanQuery(keyword);
+        if (fullTextQuery != null) {
+            // 관련도 순 정렬은 쿼리에서 지정하므로 정렬 없는 Pageable 사용
+            return userRepository.searchUsersByFullText(fullTextQuery,
+                    status != null ? status.name() : null,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        }
         return userRepository.searchUsers(keyword, status, pageable);
     }
 
@@ -77,6 +90,7 @@ public class AdminUserService {
                 });
         user.setStatus(status);
         User updated = userRepository.save(user);
+        cacheInvalidationService.publish(CacheInvalidation.CHAT_PARTICIPANT, updated.getId());
         log.info("[ADMIN-USER] 회원 상태 변경 - userId={}, status={}", updated.getId(), updated.getStatus());
         return updated;
     }
@@ -95,6 +109,7 @@ public class AdminUserService {
                 });
         user.setStatus(User.UserStatus.DELETED);
         userRepository.save(user);
+        cacheInvalidationService.publish(CacheInvalidation.CHAT_PARTICIPANT, userId);
         log.info("[ADMIN-USER] 회원 삭제 처리 - userId={}", userId);
     }
 }
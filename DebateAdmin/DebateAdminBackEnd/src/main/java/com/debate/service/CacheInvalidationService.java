@@ -0,0 +1,31 @@
+package com.debate.service;
+
+import com.debate.entity.CacheInvalidation;
+import com.debate.repository.CacheInvalidationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 서버 캐시 무효화 요청을 기록하는 서비스.
+ * <p>
+ * 호출한 트랜잭션 안에서 기록되므로 변경이 롤백되면 요청도 남지 않는다.
+ * 사용자 서버가 cache_invalidations 테이블을 주기적으로 읽어 해당 캐시 항목을 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    /**
+     * 캐시 무효화를 요청한다.
+     *
+     * @param cacheName 캐시 이름 ({@link CacheInvalidation}의 상수)
+     * @param targetId  무효화 대상 ID
+     */
+    public void publish(String cacheName, Long targetId) {
+        cacheInvalidationRepository.save(CacheInvalidation.builder()
+                .cacheName(cacheName)
+                .targetId(targetId)
+                .build());
+    }
+}
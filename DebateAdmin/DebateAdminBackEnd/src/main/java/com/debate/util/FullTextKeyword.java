@@ -0,0 +1,44 @@
+package com.debate.util;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram 파서) 검색어 변환 유틸리티.
+ * <p>
+ * 관리자 검색 키워드를 BOOLEAN MODE 검색식으로 변환한다.
+ * ngram 토큰 크기보다 짧은 단어가 포함되면 FULLTEXT로 찾을 수 없으므로 null을 반환해 LIKE 검색으로 대체하게 한다.
+ */
+public final class FullTextKeyword {
+    /** ngram 파서의 기본 토큰 크기 (ngram_token_size = 2) */
+    public static final int MIN_TOKEN_LENGTH = 2;
+
+    private FullTextKeyword() {
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환한다. 모든 단어가 포함되도록 각 단어 앞에 '+'를 붙인다.
+     *
+     * @param keyword 관리자 입력 검색어
+     * @return BOOLEAN MODE 검색식, FULLTEXT로 검색할 수 없으면 null
+     */
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String cleaned = keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim();
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+
+        String[] tokens = cleaned.split("\\s+");
+        if (Arrays.stream(tokens).anyMatch(token -> token.length() < MIN_TOKEN_LENGTH)) {
+            return null;
+        }
+
+        return Arrays.stream(tokens)
+                .map(token -> "+" + token)
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,68 @@
+package com.debate.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * FULLTEXT 인덱스 초기화 컴포넌트
+ * JPA의 ddl-auto로는 FULLTEXT(ngram) 인덱스를 만들 수 없으므로,
+ * 스키마 갱신 이후 인덱스가 없으면 생성합니다.
+ * 관리자 서버도 같은 이름으로 생성하므로, 동시 기동으로 이미 생성된 경우(중복 인덱스 오류 1061)는 무시합니다.
+ * 인덱스 생성은 해당 테이블 쓰기를 막으므로 최초 배포(인덱스가 없을 때)에만 발생합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements InitializingBean {
+    // MySQL 중복 인덱스 이름 오류 코드
+    private static final int ER_DUP_KEYNAME = 1061;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        ensureIndex("debate", "ft_debate_title_content", "title, content");
+    }
+
+    /**
+     * 인덱스가 존재하지 않으면 ngram 파서를 사용하는 FULLTEXT 인덱스를 생성
+     *
+     * @param table 테이블명
+     * @param indexName 인덱스명
+     * @param columns 인덱스 대상 컬럼 목록
+     */
+    private void ensureIndex(String table, String indexName, String columns) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        log.info("FULLTEXT 인덱스 생성 - {}({}) {}", table, columns, indexName);
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName +
+                    " (" + columns + ") WITH PARSER ngram");
+        } catch (DataAccessException e) {
+            if (!isDuplicateKeyName(e)) {
+                throw e;
+            }
+            log.info("FULLTEXT 인덱스가 이미 생성됨 (다른 서버에서 생성) - {}", indexName);
+        }
+    }
+
+    private static boolean isDuplicateKeyName(DataAccessException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException cause
+                && cause.getErrorCode() == ER_DUP_KEYNAME;
+    }
+}
@@ -33,7 +33,7 @@ public class ChatController {
      * 
      * @param debateId 토론 ID
      * @param messageDTO 채팅 메시지
-     * @return 저장된 메시지 (브로드캐스트)
+     * @return 임시 ID가 붙은 메시지 (브로드캐스트)
      */
     @MessageMapping("/chat/{debateId}")
     @SendTo("/topic/debate/{debateId}")
@@ -66,7 +66,7 @@ public class ChatController {
                     .build();
         }
 
-        // 일반 채팅 메시지 저장 및 반환
+        // 일반 채팅 메시지 저장 요청 후 바로 반환 (실제 저장은 쓰기 버퍼에서 일괄 처리)
         try {
             ChatMessageDTO savedMessage = chatService.saveMessage(
                     debateId,
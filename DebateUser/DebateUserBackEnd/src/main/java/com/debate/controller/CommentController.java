@@ -4,6 +4,9 @@ import com.debate.dto.request.CreateCommentRequest;
 import com.debate.dto.request.UpdateCommentRequest;
 import com.debate.dto.response.ApiResponse;
 import com.debate.dto.response.CommentResponse;
+import com.debate.dto.response.CommentThreadResponse;
+import com.debate.dto.response.CursorSliceResponse;
+import com.debate.dto.response.LikeToggleResponse;
 import com.debate.service.CommentService;
 import com.debate.util.SecurityUtil;
 import jakarta.validation.Valid;
@@ -48,6 +51,35 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<CommentResponse>>> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        Long userId = null;
+        try {
+            userId = securityUtil.getCurrentUserId();
+        } catch (Exception e) {
+            // 비로그인 사용자도 대댓글 조회 가능
+        }
+
+        CursorSliceResponse<CommentResponse> response = commentService.getReplies(id, cursor, size, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/thread")
+    public ResponseEntity<ApiResponse<CommentThreadResponse>> getThread(@PathVariable Long id) {
+        Long userId = null;
+        try {
+            userId = securityUtil.getCurrentUserId();
+        } catch (Exception e) {
+            // 비로그인 사용자도 스레드 조회 가능
+        }
+
+        CommentThreadResponse response = commentService.getThread(id, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Object>> deleteComment(@PathVariable Long id) {
         Long userId = securityUtil.getCurrentUserId();
@@ -60,14 +92,16 @@ public class CommentController {
     }
 
     @PostMapping("/{id}/like")
-    public ResponseEntity<ApiResponse<Object>> toggleLike(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<LikeToggleResponse>> toggleLike(
+            @PathVariable Long id,
+            @RequestParam(required = false) Boolean liked) {
         Long userId = securityUtil.getCurrentUserId();
         if (userId == null) {
             return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
         }
 
-        commentService.toggleLike(id, userId);
-        return ResponseEntity.ok(ApiResponse.success("좋아요 처리가 완료되었습니다", null));
+        LikeToggleResponse response = commentService.toggleLike(id, userId, liked);
+        return ResponseEntity.ok(ApiResponse.success("좋아요 처리가 완료되었습니다", response));
     }
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<CommentResponse>> updateComment(
@@ -3,6 +3,7 @@ package com.debate.controller;
 import com.debate.dto.request.CreateDebateRequest;
 import com.debate.dto.request.UpdateDebateRequest;
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.CursorSliceResponse;
 import com.debate.dto.response.DebateResponse;
 import com.debate.entity.Debate;
 import com.debate.service.DebateService;
@@ -68,7 +69,7 @@ public class DebateController {
      * 전체 토론 목록 조회 (페이징)
      * 
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, trending)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 토론 목록 (페이징된 결과)
      */
@@ -86,7 +87,7 @@ public class DebateController {
      * 
      * @param categoryId 카테고리 ID
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, trending)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 해당 카테고리의 토론 목록 (페이징된 결과)
      */
@@ -107,7 +108,7 @@ public class DebateController {
      * @param keyword 검색 키워드
      * @param categoryId 카테고리 ID (선택적)
      * @param status 토론 상태 (선택적)
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, relevance)
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
      * @return 검색된 토론 목록 (페이징된 결과)
      */
@@ -122,6 +123,70 @@ public class DebateController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 전체 토론 목록 커서 페이징 조회 (무한 스크롤용)
+     * 전체 개수를 조회하지 않으며, 응답의 nextCursor로 다음 페이지를 조회합니다.
+     * 
+     * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 토론 목록과 다음 페이지 커서
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<DebateResponse>>> scrollDebates(
+            @RequestParam(required = false) Debate.DebateStatus status,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<DebateResponse> response = debateService.scrollDebates(status, sort, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 카테고리별 토론 목록 커서 페이징 조회 (무한 스크롤용)
+     * 
+     * @param categoryId 카테고리 ID
+     * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 해당 카테고리의 토론 목록과 다음 페이지 커서
+     */
+    @GetMapping("/category/{categoryId}/scroll")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<DebateResponse>>> scrollDebatesByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) Debate.DebateStatus status,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<DebateResponse> response = debateService.scrollDebatesByCategory(categoryId, status, sort, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 키워드 검색 결과 커서 페이징 조회 (무한 스크롤용)
+     * 
+     * @param keyword 검색 키워드
+     * @param categoryId 카테고리 ID (선택적)
+     * @param status 토론 상태 (선택적)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본값: 20, 최대 100)
+     * @return 검색된 토론 목록과 다음 페이지 커서
+     */
+    @GetMapping("/search/scroll")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<DebateResponse>>> scrollSearchDebates(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Debate.DebateStatus status,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<DebateResponse> response = debateService.scrollSearchDebates(keyword, categoryId, status, sort, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 토론 수정
      * 작성자만 수정 가능하며, 토론이 시작되기 전(SCHEDULED 상태)에만 수정 가능
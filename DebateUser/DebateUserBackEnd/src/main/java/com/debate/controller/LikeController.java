@@ -1,6 +1,7 @@
 package com.debate.controller;
 
 import com.debate.dto.response.ApiResponse;
+import com.debate.dto.response.LikeToggleResponse;
 import com.debate.service.LikeService;
 import com.debate.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
@@ -15,14 +16,16 @@ public class LikeController {
     private final SecurityUtil securityUtil;
 
     @PostMapping("/debate/{debateId}")
-    public ResponseEntity<ApiResponse<Object>> toggleLike(@PathVariable Long debateId) {
+    public ResponseEntity<ApiResponse<LikeToggleResponse>> toggleLike(
+            @PathVariable Long debateId,
+            @RequestParam(required = false) Boolean liked) {
         Long userId = securityUtil.getCurrentUserId();
         if (userId == null) {
             return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
         }
 
-        likeService.toggleLike(debateId, userId);
-        return ResponseEntity.ok(ApiResponse.success("좋아요가 처리되었습니다", null));
+        LikeToggleResponse response = likeService.toggleLike(debateId, userId, liked);
+        return ResponseEntity.ok(ApiResponse.success("좋아요가 처리되었습니다", response));
     }
 
     @GetMapping("/debate/{debateId}")
@@ -2,18 +2,21 @@ package com.debate.controller;
 
 import com.debate.dto.request.CreateOpinionRequest;
 import com.debate.dto.response.ApiResponse;
-import com.debate.entity.DebateOpinion;
+import com.debate.dto.response.OpinionSummaryResponse;
+import com.debate.dto.response.OpinionTimelineResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
 import com.debate.service.DebateOpinionService;
 import com.debate.util.SecurityUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 import com.debate.dto.response.DebateOpinionResponse;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/opinions")
@@ -30,17 +33,35 @@ public class OpinionController {
             return ResponseEntity.status(401).body(ApiResponse.error("인증이 필요합니다"));
         }
         
-        DebateOpinion opinion = debateOpinionService.createOpinion(request, userId);
-        return ResponseEntity.ok(ApiResponse.success("입장이 선택되었습니다", DebateOpinionResponse.from(opinion)));
+        DebateOpinionResponse response = debateOpinionService.createOpinion(request, userId);
+        return ResponseEntity.ok(ApiResponse.success("입장이 선택되었습니다", response));
+    }
+
+    @GetMapping("/debate/{debateId}/summary")
+    public ResponseEntity<ApiResponse<OpinionSummaryResponse>> getSummary(@PathVariable Long debateId) {
+        Long userId = null;
+        try {
+            userId = securityUtil.getCurrentUserId();
+        } catch (Exception e) {
+            // 비로그인 사용자도 입장 요약 조회 가능
+        }
+
+        OpinionSummaryResponse response = debateOpinionService.getSummary(debateId, userId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/debate/{debateId}/timeline")
+    public ResponseEntity<ApiResponse<OpinionTimelineResponse>> getTimeline(@PathVariable Long debateId) {
+        OpinionTimelineResponse response = debateOpinionService.getTimeline(debateId);
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/debate/{debateId}")
-    public ResponseEntity<ApiResponse<List<DebateOpinionResponse>>> getOpinionsByDebate(@PathVariable Long debateId) {
-        List<DebateOpinion> opinions = debateOpinionService.getOpinionsByDebate(debateId);
-        List<DebateOpinionResponse> response = opinions.stream()
-                .map(DebateOpinionResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<ApiResponse<Page<DebateOpinionResponse>>> getOpinionsByDebate(
+            @PathVariable Long debateId,
+            @RequestParam(required = false) OpinionSide side,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<DebateOpinionResponse> response = debateOpinionService.getOpinionsByDebate(debateId, side, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
-
@@ -21,6 +21,11 @@ public class ChatMessageDTO {
      * 메시지 ID (응답 시)
      */
     private Long id;
+
+    /**
+     * 임시 메시지 ID (브로드캐스트 시 발급, DB 저장 전 식별용)
+     */
+    private String tempId;
     
     /**
      * 토론 ID
@@ -0,0 +1,34 @@
+package com.debate.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 변경 이벤트 (WebSocket 브로드캐스트용 델타)
+ * /topic/debate/{debateId}/comments 구독자에게 전송되며, 이벤트 종류에 필요한 필드만 포함합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommentEvent {
+    private Type type;
+    private Long commentId;
+    private Long parentId;          // 대댓글인 경우 부모 댓글 ID
+    private Long actorId;           // 변경을 일으킨 사용자 ID (본인 화면의 중복 반영 방지용)
+    private CommentResponse comment; // CREATED: 작성된 댓글
+    private String content;         // UPDATED: 수정된 내용
+    private Boolean softDeleted;    // DELETED: 대댓글이 있어 "삭제된 댓글"로 남는 경우 true
+    private Integer likeCount;      // LIKED: 변경된 좋아요 수
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        LIKED
+    }
+}
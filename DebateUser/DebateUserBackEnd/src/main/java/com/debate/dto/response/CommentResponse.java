@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class CommentResponse {
@@ -20,10 +20,12 @@ public class CommentResponse {
     private String profileImage; // 프로필 이미지 필드 추가
     private Long debateId;
     private Long parentId;
+    private int depth;                          // 트리 깊이 (최상위 댓글은 0)
     private String content;
     private Boolean isHidden;
     private Boolean isDeleted;
-    private List<CommentResponse> replies;
+    private List<CommentResponse> replies;      // 처음 몇 개의 대댓글 (나머지는 /api/comments/{id}/replies로 조회)
+    private int replyCount;                     // 전체 대댓글 수
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private int likeCount;
@@ -54,12 +56,14 @@ public class CommentResponse {
                 .profileImage(deleted ? null : normalizeProfileImageUrl(comment.getUser().getProfileImage())) // 프로필 이미지 추가
                 .debateId(comment.getDebate().getId())
                 .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .depth(comment.getDepth())
                 .content(deleted ? "삭제된 댓글입니다." : comment.getContent())
                 .isHidden(comment.getIsHidden())
                 .isDeleted(deleted)
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .likeCount(comment.getLikeCount())
+                .replyCount(comment.getReplyCount())
                 .build();
     }
 }
@@ -0,0 +1,20 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 스레드 응답 DTO
+ * 하위 트리가 한 번에 읽는 최대 댓글 수를 넘으면 앞쪽(경로 순)만 담고 truncated로 알립니다.
+ * 잘린 뒤쪽 대댓글은 replyCount와 실제 replies 수를 비교해 /api/comments/{id}/replies로 이어서 조회합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadResponse {
+    private CommentResponse root;   // 하위 대댓글이 replies로 중첩된 루트 댓글
+    private boolean truncated;      // 최대 댓글 수를 넘어 일부 대댓글이 빠졌는지 여부
+}
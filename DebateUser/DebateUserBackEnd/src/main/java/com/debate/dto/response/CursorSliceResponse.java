@@ -0,0 +1,23 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이징 응답 DTO
+ * 전체 개수(COUNT)를 조회하지 않고, 다음 페이지를 이어서 조회할 수 있는 불투명 커서만 반환합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceResponse<T> {
+    private List<T> content;      // 현재 페이지 항목
+    private int size;             // 요청한 페이지 크기
+    private boolean hasNext;      // 다음 페이지 존재 여부
+    private String nextCursor;    // 다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+}
@@ -19,6 +19,7 @@ public class DebateOpinionResponse {
     private Long debateId;
     private Long userId;
     private OpinionSide side;
+    private OpinionSide previousSide; // 입장 선택 응답에서 변경 전 입장 (새로 선택한 경우 null)
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -1,6 +1,7 @@
 package com.debate.dto.response;
 
 import com.debate.entity.Debate;
+import com.debate.entity.DebateSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,7 +21,8 @@ public class DebateResponse {
     private Long categoryId;
     private String categoryName;
     private String title;
-    private String content;
+    private String content;     // 본문 HTML (상세 조회에서만 포함)
+    private String excerpt;     // 본문 미리보기 (순수 텍스트)
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Debate.DebateStatus status;
@@ -28,6 +30,11 @@ public class DebateResponse {
     private Integer viewCount;
     private Long likeCount;
     private Long commentCount;
+    private Long opinionCount;
+    private Long forCount;      // 찬성 의견 수
+    private Long againstCount;  // 반대 의견 수
+    private Long neutralCount;  // 중립 의견 수
+    private Long otherCount;    // 기타 의견 수
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -46,6 +53,13 @@ public class DebateResponse {
         return profileImage;
     }
 
+    /**
+     * 토론 엔티티에 저장된 비정규화 카운터(좋아요 수, 댓글 수)를 그대로 사용하여 변환
+     */
+    public static DebateResponse from(Debate debate) {
+        return from(debate, debate.getLikeCount(), debate.getCommentCount());
+    }
+
     public static DebateResponse from(Debate debate, Long likeCount, Long commentCount) {
         return DebateResponse.builder()
                 .id(debate.getId())
@@ -56,6 +70,7 @@ public class DebateResponse {
                 .categoryName(debate.getCategory().getName())
                 .title(debate.getTitle())
                 .content(debate.getContent())
+                .excerpt(debate.getExcerpt())
                 .startDate(debate.getStartDate())
                 .endDate(debate.getEndDate())
                 .status(debate.getStatus())
@@ -63,9 +78,54 @@ public class DebateResponse {
                 .viewCount(debate.getViewCount())
                 .likeCount(likeCount)
                 .commentCount(commentCount)
+                .opinionCount(debate.getOpinionCount())
                 .createdAt(debate.getCreatedAt())
                 .updatedAt(debate.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 목록용 요약 엔티티로 변환 (본문은 포함하지 않고 미리보기만 사용)
+     */
+    public static DebateResponse from(DebateSummary debate) {
+        return DebateResponse.builder()
+                .id(debate.getId())
+                .userId(debate.getUser().getId())
+                .nickname(debate.getUser().getNickname())
+                .profileImage(normalizeProfileImageUrl(debate.getUser().getProfileImage()))
+                .categoryId(debate.getCategory().getId())
+                .categoryName(debate.getCategory().getName())
+                .title(debate.getTitle())
+                .excerpt(debate.getExcerpt())
+                .startDate(debate.getStartDate())
+                .endDate(debate.getEndDate())
+                .status(debate.getStatus())
+                .isHidden(debate.getIsHidden())
+                .viewCount(debate.getViewCount())
+                .likeCount(debate.getLikeCount())
+                .commentCount(debate.getCommentCount())
+                .opinionCount(debate.getOpinionCount())
+                .createdAt(debate.getCreatedAt())
+                .updatedAt(debate.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 일괄 집계 결과로 입장별 의견 수 설정
+     * 좋아요 수, 댓글 수는 토론 행의 카운터를 그대로 사용합니다.
+     */
+    public DebateResponse withSideCounts(DebateSideCount sideCount) {
+        if (sideCount != null) {
+            this.forCount = sideCount.getForCount();
+            this.againstCount = sideCount.getAgainstCount();
+            this.neutralCount = sideCount.getNeutralCount();
+            this.otherCount = sideCount.getOtherCount();
+        } else {
+            this.forCount = 0L;
+            this.againstCount = 0L;
+            this.neutralCount = 0L;
+            this.otherCount = 0L;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,13 @@
+package com.debate.dto.response;
+
+/**
+ * 토론별 입장별 의견 수 (DebateRepository.findSideCountsByDebateIds 프로젝션)
+ * 좋아요/댓글/전체 의견 수는 토론 행의 카운터 컬럼을 사용하므로 입장별 분포만 집계합니다.
+ */
+public interface DebateSideCount {
+    Long getDebateId();
+    Long getForCount();
+    Long getAgainstCount();
+    Long getNeutralCount();
+    Long getOtherCount();
+}
@@ -0,0 +1,19 @@
+package com.debate.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좋아요 처리 결과 DTO
+ * 처리 후 좋아요 상태와 좋아요 수 변화량을 반환합니다. (중복 요청으로 상태가 바뀌지 않은 경우 delta는 0)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeToggleResponse {
+    private boolean liked;   // 처리 후 좋아요 상태
+    private int delta;       // 좋아요 수 변화량 (-1, 0, 1)
+}
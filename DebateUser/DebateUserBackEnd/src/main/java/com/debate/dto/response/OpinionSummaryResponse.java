@@ -0,0 +1,40 @@
+package com.debate.dto.response;
+
+import com.debate.entity.DebateOpinion.OpinionSide;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 토론 입장 요약 DTO
+ * 입장별 인원 수와 비율, 현재 사용자의 입장을 반환합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionSummaryResponse {
+    private Long debateId;
+    private Map<OpinionSide, Long> counts;         // 입장별 인원 수
+    private Map<OpinionSide, Double> percentages;  // 입장별 비율 (전체 대비 %, 소수점 첫째 자리)
+    private long total;                            // 전체 인원 수
+    private OpinionSide mySide;                    // 현재 사용자의 입장 (비로그인 또는 미선택은 null)
+
+    public static OpinionSummaryResponse of(OpinionTallyResponse tally, OpinionSide mySide) {
+        Map<OpinionSide, Double> percentages = new EnumMap<>(OpinionSide.class);
+        tally.getCounts().forEach((side, count) -> percentages.put(side,
+                tally.getTotal() > 0 ? Math.round(count * 1000.0 / tally.getTotal()) / 10.0 : 0.0));
+
+        return OpinionSummaryResponse.builder()
+                .debateId(tally.getDebateId())
+                .counts(tally.getCounts())
+                .percentages(percentages)
+                .total(tally.getTotal())
+                .mySide(mySide)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.debate.dto.response;
+
+import com.debate.entity.DebateOpinion.OpinionSide;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 토론 입장 집계 DTO
+ * /topic/debate/{debateId}/tally로 브로드캐스트되는 입장별 인원 수입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionTallyResponse {
+    private Long debateId;
+    private Map<OpinionSide, Long> counts;   // 입장별 인원 수 (모든 입장 포함, 없으면 0)
+    private long total;                      // 전체 인원 수
+}
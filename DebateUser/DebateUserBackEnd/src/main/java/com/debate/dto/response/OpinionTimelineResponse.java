@@ -0,0 +1,36 @@
+package com.debate.dto.response;
+
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.entity.OpinionTimeBucket.Granularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토론 입장 추이 DTO
+ * 버킷별 누적 입장 분포를 시간 순으로 반환합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpinionTimelineResponse {
+    private Long debateId;
+    private Map<OpinionSide, Long> baseline;   // 시계열 기록 이전의 입장별 인원 수
+    private List<Point> points;                // 버킷별 누적 입장 분포 (시간 순)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;     // 버킷 시작 일시
+        private Granularity granularity;       // 버킷 단위
+        private Map<OpinionSide, Long> counts; // 버킷 종료 시점의 입장별 인원 수
+    }
+}
@@ -0,0 +1,42 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백필 이력 엔티티
+ * 컬럼 추가 후 한 번만 실행하면 되는 데이터 백필의 완료 여부를 기록합니다.
+ * 기동 시 이력이 없는 백필만 실행하므로, 배포마다 설정을 바꾸지 않아도 최초 기동에서 한 번 실행됩니다.
+ */
+@Entity
+@Table(name = "backfill_history")
+@Comment("백필 이력 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillHistory {
+    /**
+     * 토론 카운터(좋아요/댓글/의견 수) 및 댓글 카운터 최초 백필
+     */
+    public static final String COUNTERS = "counters";
+
+    /**
+     * 백필 이름 (PK)
+     */
+    @Id
+    @Column(length = 50)
+    @Comment("백필 이름")
+    private String name;
+
+    /**
+     * 완료 일시
+     */
+    @Column(name = "completed_at", nullable = false)
+    @Comment("완료 일시")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,77 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 엔티티
+ * 관리자 서버에서 발생한 변경을 사용자 서버의 메모리 캐시에 전달하기 위한 테이블
+ * 관리자 서버가 변경과 같은 트랜잭션에서 행을 기록하고, 사용자 서버가 주기적으로 새 행을 읽어 해당 캐시 항목을 무효화합니다.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+    @Index(name = "idx_created_at", columnList = "created_at")
+})
+@Comment("캐시 무효화 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class CacheInvalidation {
+    /**
+     * 댓글 첫 페이지 캐시 (대상: 토론 ID)
+     */
+    public static final String COMMENT_PAGE = "commentPage";
+
+    /**
+     * 토론 상태 캐시 (대상: 토론 ID)
+     */
+    public static final String DEBATE_STATE = "debateState";
+
+    /**
+     * 토론 목록 캐시 (대상: 토론 ID)
+     */
+    public static final String DEBATE_LIST = "debateList";
+
+    /**
+     * 채팅 참여자 캐시 (대상: 사용자 ID)
+     */
+    public static final String CHAT_PARTICIPANT = "chatParticipant";
+
+    /**
+     * 무효화 ID (PK, 증가 순서로 처리)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("무효화 ID")
+    private Long id;
+
+    /**
+     * 캐시 이름
+     */
+    @Column(name = "cache_name", nullable = false, length = 50)
+    @Comment("캐시 이름")
+    private String cacheName;
+
+    /**
+     * 무효화 대상 ID
+     */
+    @Column(name = "target_id", nullable = false)
+    @Comment("대상 ID")
+    private Long targetId;
+
+    /**
+     * 생성 일시
+     */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Comment("생성 일시")
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,7 @@ package com.debate.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,14 +11,17 @@ import java.time.LocalDateTime;
 
 /**
  * 댓글 엔티티
- * 토론에 대한 댓글을 저장하는 테이블 (대댓글 지원)
+ * 토론에 대한 댓글을 저장하는 테이블 (깊이 제한 없는 대댓글 지원)
+ * 트리 구조는 parent_id와 함께 구체화 경로(path)로 저장하여, 하위 트리 전체를 path 범위 조회 한 번으로 읽습니다.
  */
 @Entity
 @Table(name = "comments", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_debate_id", columnList = "debate_id"),
     @Index(name = "idx_parent_id", columnList = "parent_id"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_parent_created_at", columnList = "parent_id, created_at, id"),
+    @Index(name = "idx_path", columnList = "path")
 })
 @org.hibernate.annotations.Comment("댓글 테이블")
 @Getter
@@ -59,6 +63,23 @@ public class Comment {
     @org.hibernate.annotations.Comment("부모 댓글 ID (대댓글인 경우)")
     private Comment parent;
 
+    /**
+     * 구체화 경로 (루트부터 자신까지의 ID를 10자리로 채워 "/"로 연결, 예: 0000000012/0000000034/)
+     * path 순 정렬이 트리의 전위 순회 순서(형제는 작성 순)와 같습니다.
+     */
+    @Column(length = 400)
+    @org.hibernate.annotations.Comment("구체화 경로")
+    private String path;
+
+    /**
+     * 트리 깊이 (최상위 댓글은 0)
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @org.hibernate.annotations.Comment("트리 깊이")
+    @Builder.Default
+    private int depth = 0;
+
     /**
      * 댓글 내용
      */
@@ -99,16 +120,39 @@ public class Comment {
     private LocalDateTime updatedAt;
 
     /**
-     * 대댓글 수 (가상 컬럼)
-     * 정렬을 위해 사용
+     * 경로 세그먼트 길이 (ID를 0으로 채운 자릿수)
+     */
+    public static final int PATH_SEGMENT_LENGTH = 10;
+
+    /**
+     * 최대 트리 깊이 (path 컬럼 길이 400 / 세그먼트 11자)
+     */
+    public static final int MAX_DEPTH = 35;
+
+    /**
+     * 부모 경로에 이 댓글의 세그먼트를 붙여 경로 생성 (ID가 할당된 후 호출)
+     */
+    public void assignPath() {
+        String segment = String.format("%0" + PATH_SEGMENT_LENGTH + "d/", id);
+        this.path = parent != null ? parent.getPath() + segment : segment;
+        this.depth = parent != null ? parent.getDepth() + 1 : 0;
+    }
+
+    /**
+     * 대댓글 수 (비정규화 카운터)
+     * 정렬을 위해 사용하며, 엔티티 저장으로는 덮어쓰지 않고 CommentRepository의 증감 쿼리로만 갱신합니다.
      */
-    @org.hibernate.annotations.Formula("(select count(*) from comments c where c.parent_id = id)")
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @org.hibernate.annotations.Comment("대댓글 수")
     private int replyCount;
 
     /**
-     * 좋아요 수 (가상 컬럼)
+     * 좋아요 수 (비정규화 카운터)
      */
-    @org.hibernate.annotations.Formula("(select count(*) from comment_likes cl where cl.comment_id = id)")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @org.hibernate.annotations.Comment("좋아요 수")
     private int likeCount;
 }
 
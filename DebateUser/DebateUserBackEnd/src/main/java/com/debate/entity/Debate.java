@@ -2,6 +2,7 @@ package com.debate.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -21,7 +22,11 @@ import java.time.LocalDateTime;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_start_date", columnList = "start_date"),
     @Index(name = "idx_end_date", columnList = "end_date"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_hidden_created_at", columnList = "is_hidden, created_at, id"),
+    @Index(name = "idx_hidden_view_count", columnList = "is_hidden, view_count, id"),
+    @Index(name = "idx_hidden_like_count", columnList = "is_hidden, like_count, created_at"),
+    @Index(name = "idx_hidden_comment_count", columnList = "is_hidden, comment_count, created_at")
 })
 @Comment("토론 주제 테이블")
 @Getter
@@ -70,6 +75,13 @@ public class Debate {
     @Comment("토론 내용")
     private String content;
 
+    /**
+     * 본문 미리보기 (목록 조회용 순수 텍스트, 본문 저장 시 함께 갱신)
+     */
+    @Column(length = 200)
+    @Comment("본문 미리보기")
+    private String excerpt;
+
     /**
      * 토론 시작 일시
      */
@@ -103,12 +115,41 @@ public class Debate {
 
     /**
      * 조회수
+     * 엔티티 저장으로는 갱신하지 않고 ViewCountService의 배치 증가 쿼리로만 갱신합니다.
      */
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     @Comment("조회수")
     @Builder.Default
     private Integer viewCount = 0;
 
+    /**
+     * 좋아요 수 (비정규화 카운터)
+     * 엔티티 저장으로는 덮어쓰지 않고 DebateRepository의 증감 쿼리로만 갱신합니다.
+     */
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("좋아요 수")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    /**
+     * 댓글 수 (숨김 처리되지 않은 댓글, 비정규화 카운터)
+     */
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("댓글 수 (숨김 제외)")
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    /**
+     * 의견(입장 선택) 수 (비정규화 카운터)
+     */
+    @Column(name = "opinion_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Comment("의견 수")
+    @Builder.Default
+    private Long opinionCount = 0L;
+
     /**
      * 생성 일시
      */
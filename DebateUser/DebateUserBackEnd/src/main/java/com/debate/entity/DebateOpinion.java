@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @Table(name = "debate_opinion", indexes = {
     @Index(name = "idx_debate_id", columnList = "debate_id"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_side", columnList = "side")
+    @Index(name = "idx_side", columnList = "side"),
+    @Index(name = "idx_debate_side_created_at", columnList = "debate_id, side, created_at")
 }, uniqueConstraints = {
     @UniqueConstraint(name = "uk_debate_user", columnNames = {"debate_id", "user_id"})
 })
@@ -0,0 +1,69 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토론 목록용 읽기 전용 엔티티
+ * debate 테이블을 본문(content) 컬럼 없이 매핑하여, 목록 조회 시 TEXT 본문을 읽지 않습니다.
+ * 쓰기는 항상 Debate 엔티티를 통해 수행합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "debate")
+@Getter
+@NoArgsConstructor
+public class DebateSummary {
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    private String title;
+
+    /**
+     * 본문 미리보기 (순수 텍스트)
+     */
+    @Column(length = 200)
+    private String excerpt;
+
+    @Column(name = "start_date")
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    @Enumerated(EnumType.STRING)
+    private Debate.DebateStatus status;
+
+    @Column(name = "is_hidden")
+    private Boolean isHidden;
+
+    @Column(name = "view_count")
+    private Integer viewCount;
+
+    @Column(name = "like_count")
+    private Long likeCount;
+
+    @Column(name = "comment_count")
+    private Long commentCount;
+
+    @Column(name = "opinion_count")
+    private Long opinionCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
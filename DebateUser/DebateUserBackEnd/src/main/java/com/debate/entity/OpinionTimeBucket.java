@@ -0,0 +1,111 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토론 입장 시계열 버킷 엔티티
+ * 토론별 시간 구간(분/시간) 동안의 입장별 인원 변화량을 저장하는 테이블
+ * 입장 변경은 이전 입장 -1, 새 입장 +1로 기록되므로, 버킷을 시간 순으로 누적하면 각 시점의 입장 분포가 됩니다.
+ * 최근 버킷은 분 단위로 쌓이고, 오래된 분 단위 버킷은 시간 단위 버킷으로 합쳐집니다.
+ * 통계성 데이터이므로 토론 FK는 두지 않습니다.
+ */
+@Entity
+@Table(name = "opinion_time_bucket", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_debate_bucket", columnNames = {"debate_id", "bucket_start", "granularity"})
+}, indexes = {
+    @Index(name = "idx_granularity_bucket_start", columnList = "granularity, bucket_start")
+})
+@Comment("토론 입장 시계열 테이블")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OpinionTimeBucket {
+    /**
+     * 버킷 ID (PK)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("버킷 ID")
+    private Long id;
+
+    /**
+     * 토론 ID
+     */
+    @Column(name = "debate_id", nullable = false)
+    @Comment("토론 ID")
+    private Long debateId;
+
+    /**
+     * 버킷 시작 일시 (분 또는 시 단위로 절삭)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    @Comment("버킷 시작 일시")
+    private LocalDateTime bucketStart;
+
+    /**
+     * 버킷 단위 (MINUTE: 분, HOUR: 시간)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Comment("버킷 단위 (MINUTE: 분, HOUR: 시간)")
+    private Granularity granularity;
+
+    /**
+     * 찬성 인원 변화량
+     */
+    @Column(name = "for_delta", nullable = false)
+    @ColumnDefault("0")
+    @Comment("찬성 인원 변화량")
+    private long forDelta;
+
+    /**
+     * 반대 인원 변화량
+     */
+    @Column(name = "against_delta", nullable = false)
+    @ColumnDefault("0")
+    @Comment("반대 인원 변화량")
+    private long againstDelta;
+
+    /**
+     * 중립 인원 변화량
+     */
+    @Column(name = "neutral_delta", nullable = false)
+    @ColumnDefault("0")
+    @Comment("중립 인원 변화량")
+    private long neutralDelta;
+
+    /**
+     * 기타 인원 변화량
+     */
+    @Column(name = "other_delta", nullable = false)
+    @ColumnDefault("0")
+    @Comment("기타 인원 변화량")
+    private long otherDelta;
+
+    /**
+     * 버킷 단위 열거형
+     */
+    public enum Granularity {
+        MINUTE,  // 분
+        HOUR     // 시간
+    }
+
+    /**
+     * 입장별 변화량
+     */
+    public long getDelta(DebateOpinion.OpinionSide side) {
+        return switch (side) {
+            case FOR -> forDelta;
+            case AGAINST -> againstDelta;
+            case NEUTRAL -> neutralDelta;
+            case OTHER -> otherDelta;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.debate.repository;
+
+import com.debate.entity.BackfillHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BackfillHistoryRepository extends JpaRepository<BackfillHistory, String> {
+}
@@ -0,0 +1,27 @@
+package com.debate.repository;
+
+import com.debate.entity.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+    // 마지막으로 처리한 ID 이후의 무효화 요청 (ID 오름차순)
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    // 가장 최근 무효화 ID (기동 시 기준점, 없으면 0)
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    long findMaxId();
+
+    // 처리 기한이 지난 무효화 요청 정리
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
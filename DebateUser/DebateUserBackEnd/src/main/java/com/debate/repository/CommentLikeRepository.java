@@ -2,8 +2,12 @@ package com.debate.repository;
 
 import com.debate.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,6 +15,19 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
     Optional<CommentLike> findByCommentIdAndUserId(Long commentId, Long userId);
     long countByCommentId(Long commentId);
-    void deleteByCommentIdAndUserId(Long commentId, Long userId);
     void deleteByCommentId(Long commentId);
+
+    // 사용자가 좋아요한 댓글 ID 전체 (좋아요 집합 캐시 적재용)
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId")
+    List<Long> findCommentIdsByUserId(@Param("userId") Long userId);
+
+    // 좋아요 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (comment_id, user_id, created_at) VALUES (:commentId, :userId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
 }
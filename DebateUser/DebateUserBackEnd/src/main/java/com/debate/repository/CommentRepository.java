@@ -5,20 +5,93 @@ import com.debate.entity.Comment;
 import com.debate.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 목록 조회는 응답에 필요한 작성자를 함께 조회 (토론, 부모 댓글은 ID만 사용하므로 프록시로 충분)
+    @EntityGraph(attributePaths = {"user"})
     Page<Comment> findByDebateAndIsHiddenFalseAndParentIsNull(Debate debate, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"user"})
     List<Comment> findByParent(Comment parent);
 
-    List<Comment> findByUser(User user);
+    // 한 페이지의 부모 댓글들에 달린 대댓글 중 부모별 처음 :limit개를 한 번의 쿼리로 조회
+    @Query(value = "SELECT * FROM (" +
+           "  SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+           "  FROM comments c WHERE c.parent_id IN (:parentIds)" +
+           ") r WHERE r.rn <= :limit ORDER BY r.parent_id, r.created_at, r.id", nativeQuery = true)
+    List<Comment> findFirstRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
 
+    // 대댓글 커서(키셋) 페이징: (created_at, id) 오름차순, COUNT 쿼리 없이 Slice 반환
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND " +
+           "(:cursorId IS NULL OR c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> scrollReplies(@Param("parentId") Long parentId,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    boolean existsByParent(Comment parent);
+
+    // 하위 트리 전체를 path 범위 조회 한 번으로 조회 (전위 순회 순서, 삭제된 댓글도 자리 표시용으로 포함, 숨김 댓글 제외)
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT c FROM Comment c WHERE c.path LIKE CONCAT(:rootPath, '%') AND c.isHidden = false ORDER BY c.path")
+    List<Comment> findSubtree(@Param("rootPath") String rootPath, Pageable pageable);
+
+    // 경로 백필: 최상위 댓글
+    @Modifying
+    @Query(value = "UPDATE comments SET path = CONCAT(LPAD(id, 10, '0'), '/'), depth = 0 " +
+           "WHERE path IS NULL AND parent_id IS NULL", nativeQuery = true)
+    int backfillRootPaths();
+
+    // 경로 백필: 부모 경로가 채워진 대댓글 (한 단계씩, 0건이 될 때까지 반복 호출)
+    @Modifying
+    @Query(value = "UPDATE comments c JOIN comments p ON c.parent_id = p.id " +
+           "SET c.path = CONCAT(p.path, LPAD(c.id, 10, '0'), '/'), c.depth = p.depth + 1 " +
+           "WHERE c.path IS NULL AND p.path IS NOT NULL", nativeQuery = true)
+    int backfillChildPaths();
+
+    @EntityGraph(attributePaths = {"user"})
+    Page<Comment> findByUser(User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user"})
     Page<Comment> findByUserAndIsHiddenFalse(User user, Pageable pageable);
 
+    long countByUser(User user);
+
     long countByDebateAndIsHiddenFalse(Debate debate);
+
+    // 비정규화 카운터 원자적 증감 (엔티티 저장 시에는 카운터 컬럼을 쓰지 않음)
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int adjustReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int adjustLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = 0 WHERE id = :commentId", nativeQuery = true)
+    int resetLikeCount(@Param("commentId") Long commentId);
+
+    // 카운터 드리프트 보정 (원본 테이블 기준 재계산, 값이 다른 행만 갱신)
+    @Modifying
+    @Query(value = "UPDATE comments c " +
+           "LEFT JOIN (SELECT parent_id, COUNT(*) AS cnt FROM comments WHERE parent_id IS NOT NULL GROUP BY parent_id) r ON r.parent_id = c.id " +
+           "LEFT JOIN (SELECT comment_id, COUNT(*) AS cnt FROM comment_likes GROUP BY comment_id) l ON l.comment_id = c.id " +
+           "SET c.reply_count = COALESCE(r.cnt, 0), c.like_count = COALESCE(l.cnt, 0) " +
+           "WHERE c.reply_count <> COALESCE(r.cnt, 0) OR c.like_count <> COALESCE(l.cnt, 0)", nativeQuery = true)
+    int recalculateCounts();
 }
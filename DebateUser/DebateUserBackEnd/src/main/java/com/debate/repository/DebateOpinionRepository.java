@@ -4,7 +4,11 @@ import com.debate.entity.Debate;
 import com.debate.entity.DebateOpinion;
 import com.debate.entity.DebateOpinion.OpinionSide;
 import com.debate.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,9 +18,22 @@ import java.util.Optional;
 public interface DebateOpinionRepository extends JpaRepository<DebateOpinion, Long> {
     Optional<DebateOpinion> findByDebateAndUser(Debate debate, User user);
     boolean existsByDebateAndUser(Debate debate, User user);
-    List<DebateOpinion> findByDebate(Debate debate);
-    List<DebateOpinion> findByDebateAndSide(Debate debate, OpinionSide side);
+    Page<DebateOpinion> findByDebate(Debate debate, Pageable pageable);
+    Page<DebateOpinion> findByDebateAndSide(Debate debate, OpinionSide side, Pageable pageable);
     long countByDebateAndSide(Debate debate, OpinionSide side);
     List<DebateOpinion> findByUser(User user);
+
+    // 사용자의 입장만 조회 (엔티티를 적재하지 않음)
+    @Query("SELECT o.side FROM DebateOpinion o WHERE o.debate.id = :debateId AND o.user.id = :userId")
+    Optional<OpinionSide> findSideByDebateIdAndUserId(@Param("debateId") Long debateId, @Param("userId") Long userId);
+
+    // 입장별 인원 수 (집계 엔진 적재용)
+    @Query("SELECT o.side AS side, COUNT(o) AS count FROM DebateOpinion o WHERE o.debate.id = :debateId GROUP BY o.side")
+    List<SideCount> countBySide(@Param("debateId") Long debateId);
+
+    interface SideCount {
+        OpinionSide getSide();
+        long getCount();
+    }
 }
 
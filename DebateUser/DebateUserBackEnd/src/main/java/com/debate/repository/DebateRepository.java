@@ -1,56 +1,94 @@
 package com.debate.repository;
 
+import com.debate.dto.response.DebateSideCount;
 import com.debate.entity.Debate;
 import com.debate.entity.Debate.DebateStatus;
 import com.debate.entity.Category;
 import com.debate.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DebateRepository extends JpaRepository<Debate, Long> {
-    Page<Debate> findByIsHiddenFalse(Pageable pageable);
-    List<Debate> findByIsHiddenFalse(Sort sort);
-    Page<Debate> findByIsHiddenFalseAndStatus(DebateStatus status, Pageable pageable);
-    List<Debate> findByIsHiddenFalseAndStatus(DebateStatus status, Sort sort);
-    Page<Debate> findByCategoryAndIsHiddenFalse(Category category, Pageable pageable);
-    List<Debate> findByCategoryAndIsHiddenFalse(Category category, Sort sort);
-    Page<Debate> findByCategoryAndIsHiddenFalseAndStatus(Category category, DebateStatus status, Pageable pageable);
-    List<Debate> findByCategoryAndIsHiddenFalseAndStatus(Category category, DebateStatus status, Sort sort);
-    Page<Debate> findByUserAndIsHiddenFalse(User user, Pageable pageable);
-    List<Debate> findByUserAndIsHiddenFalse(User user, Sort sort);
-    Page<Debate> findByStatusAndIsHiddenFalse(DebateStatus status, Pageable pageable);
-    
-    @Query("SELECT d FROM Debate d WHERE d.isHidden = false AND " +
-           "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
-           "(:category IS NULL OR d.category = :category) AND " +
-           "(:status IS NULL OR d.status = :status)")
-    Page<Debate> searchByKeyword(@Param("keyword") String keyword,
-                                @Param("category") Category category,
-                                @Param("status") DebateStatus status,
-                                Pageable pageable);
-    
-    @Query("SELECT d FROM Debate d WHERE d.isHidden = false AND " +
-           "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR d.content LIKE %:keyword%) AND " +
-           "(:category IS NULL OR d.category = :category) AND " +
-           "(:status IS NULL OR d.status = :status)")
-    List<Debate> searchByKeywordWithoutPaging(@Param("keyword") String keyword,
-                                             @Param("category") Category category,
-                                             @Param("status") DebateStatus status,
-                                             Sort sort);
-    
+    long countByUserAndIsHiddenFalse(User user);
+    long countByCategoryAndIsHiddenFalse(Category category);
+
+    // 미리보기가 아직 생성되지 않은 토론의 본문 (기존 데이터 보정용)
+    @Query("SELECT d.id AS id, d.content AS content FROM Debate d WHERE d.excerpt IS NULL ORDER BY d.id")
+    List<ContentRow> findContentWithoutExcerpt(Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE debate SET excerpt = :excerpt WHERE id = :debateId", nativeQuery = true)
+    int updateExcerpt(@Param("debateId") Long debateId, @Param("excerpt") String excerpt);
+
     List<Debate> findByStatusAndStartDateLessThanEqual(DebateStatus status, LocalDateTime now);
     List<Debate> findByStatusAndEndDateLessThanEqual(DebateStatus status, LocalDateTime now);
     
-    @Query("SELECT d FROM Debate d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
-    List<Debate> findTopByOrderByViewCountDesc(Pageable pageable);
+    @Query("SELECT COALESCE(SUM(d.likeCount), 0) FROM Debate d WHERE d.user = :user AND d.isHidden = false")
+    long sumLikeCountByUser(@Param("user") User user);
+
+    // 비정규화 카운터 원자적 증감 (엔티티 저장 시에는 카운터 컬럼을 쓰지 않음)
+    @Modifying
+    @Query(value = "UPDATE debate SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :debateId", nativeQuery = true)
+    int adjustLikeCount(@Param("debateId") Long debateId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE debate SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :debateId", nativeQuery = true)
+    int adjustCommentCount(@Param("debateId") Long debateId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE debate SET opinion_count = GREATEST(opinion_count + :delta, 0) WHERE id = :debateId", nativeQuery = true)
+    int adjustOpinionCount(@Param("debateId") Long debateId, @Param("delta") long delta);
+
+    // 토론 ID 묶음에 대한 입장별 의견 수를 한 번의 GROUP BY로 조회 (idx_debate_side_created_at 커버링)
+    @Query(value = "SELECT o.debate_id AS debateId, " +
+           "COUNT(CASE WHEN o.side = 'FOR' THEN 1 END) AS forCount, " +
+           "COUNT(CASE WHEN o.side = 'AGAINST' THEN 1 END) AS againstCount, " +
+           "COUNT(CASE WHEN o.side = 'NEUTRAL' THEN 1 END) AS neutralCount, " +
+           "COUNT(CASE WHEN o.side = 'OTHER' THEN 1 END) AS otherCount " +
+           "FROM debate_opinion o WHERE o.debate_id IN (:debateIds) GROUP BY o.debate_id", nativeQuery = true)
+    List<DebateSideCount> findSideCountsByDebateIds(@Param("debateIds") Collection<Long> debateIds);
+
+    // 카운터 드리프트 보정 (원본 테이블 기준 재계산, 값이 다른 행만 갱신)
+    @Modifying
+    @Query(value = "UPDATE debate d " +
+           "LEFT JOIN (SELECT debate_id, COUNT(*) AS cnt FROM likes GROUP BY debate_id) l ON l.debate_id = d.id " +
+           "LEFT JOIN (SELECT debate_id, COUNT(*) AS cnt FROM comments WHERE is_hidden = false GROUP BY debate_id) c ON c.debate_id = d.id " +
+           "LEFT JOIN (SELECT debate_id, COUNT(*) AS cnt FROM debate_opinion GROUP BY debate_id) o ON o.debate_id = d.id " +
+           "SET d.like_count = COALESCE(l.cnt, 0), d.comment_count = COALESCE(c.cnt, 0), d.opinion_count = COALESCE(o.cnt, 0) " +
+           "WHERE d.like_count <> COALESCE(l.cnt, 0) OR d.comment_count <> COALESCE(c.cnt, 0) " +
+           "OR d.opinion_count <> COALESCE(o.cnt, 0)", nativeQuery = true)
+    int recalculateEngagementCounts();
+
+    // 투표/채팅 검증용 토론 상태 (본문 등은 적재하지 않음)
+    @Query("SELECT d.id AS id, d.category.id AS categoryId, d.status AS status, d.startDate AS startDate, d.endDate AS endDate, " +
+           "d.isHidden AS hidden " +
+           "FROM Debate d WHERE d.id = :debateId")
+    java.util.Optional<StateRow> findStateById(@Param("debateId") Long debateId);
+
+    interface StateRow {
+        Long getId();
+        Long getCategoryId();
+        DebateStatus getStatus();
+        LocalDateTime getStartDate();
+        LocalDateTime getEndDate();
+        Boolean getHidden();
+    }
+
+    /**
+     * 토론 본문 조회 결과 (findContentWithoutExcerpt 프로젝션)
+     */
+    interface ContentRow {
+        Long getId();
+        String getContent();
+    }
 }
 
@@ -0,0 +1,154 @@
+package com.debate.repository;
+
+import com.debate.entity.Category;
+import com.debate.entity.Debate.DebateStatus;
+import com.debate.entity.DebateSummary;
+import com.debate.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토론 목록 조회 리포지토리 (본문 컬럼을 읽지 않는 DebateSummary 기준)
+ */
+@Repository
+public interface DebateSummaryRepository extends JpaRepository<DebateSummary, Long> {
+    // 네이티브 쿼리용 조회 컬럼 (content 제외)
+    String SUMMARY_COLUMNS = "d.id, d.user_id, d.category_id, d.title, d.excerpt, d.start_date, d.end_date, d.status, " +
+            "d.is_hidden, d.view_count, d.like_count, d.comment_count, d.opinion_count, d.created_at, d.updated_at";
+
+    // 목록 조회는 응답에 필요한 작성자, 카테고리를 함께 조회 (행마다 지연 로딩 방지)
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByIsHiddenFalse(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByIsHiddenFalseAndStatus(DebateStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByCategoryAndIsHiddenFalse(Category category, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByCategoryAndIsHiddenFalseAndStatus(Category category, DebateStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByUserAndIsHiddenFalse(User user, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByUserAndIsHiddenFalseAndLikeCountGreaterThan(User user, Long likeCount, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    Page<DebateSummary> findByStatusAndIsHiddenFalse(DebateStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "category"})
+    List<DebateSummary> findByIdIn(Collection<Long> ids);
+
+    // 본문 LIKE 검색은 Debate 엔티티 서브쿼리로 처리 (목록 결과에는 본문을 싣지 않음)
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT d FROM DebateSummary d WHERE d.isHidden = false AND " +
+           "(:keyword IS NULL OR :keyword = '' OR d.title LIKE %:keyword% OR " +
+           "EXISTS (SELECT 1 FROM Debate f WHERE f.id = d.id AND f.content LIKE %:keyword%)) AND " +
+           "(:category IS NULL OR d.category = :category) AND " +
+           "(:status IS NULL OR d.status = :status)")
+    Page<DebateSummary> searchByKeyword(@Param("keyword") String keyword,
+                                        @Param("category") Category category,
+                                        @Param("status") DebateStatus status,
+                                        Pageable pageable);
+
+    // FULLTEXT(ngram) 검색: 정렬은 Pageable(컬럼명 기준)로 지정
+    // 네이티브 쿼리는 엔티티 그래프가 적용되지 않으므로 작성자, 카테고리는 default_batch_fetch_size로 일괄 로딩
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status)",
+           countQuery = "SELECT COUNT(*) FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status)",
+           nativeQuery = true)
+    Page<DebateSummary> searchByFullText(@Param("keyword") String keyword,
+                                         @Param("categoryId") Long categoryId,
+                                         @Param("status") String status,
+                                         Pageable pageable);
+
+    // FULLTEXT(ngram) 검색: 관련도 순 정렬
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status) " +
+           "ORDER BY MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, d.created_at DESC, d.id DESC",
+           countQuery = "SELECT COUNT(*) FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status)",
+           nativeQuery = true)
+    Page<DebateSummary> searchByFullTextOrderByRelevance(@Param("keyword") String keyword,
+                                                         @Param("categoryId") Long categoryId,
+                                                         @Param("status") String status,
+                                                         Pageable pageable);
+
+    // 커서(키셋) 페이징: (created_at, id) 기준 최신순, COUNT 쿼리 없이 Slice 반환
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT d FROM DebateSummary d WHERE d.isHidden = false AND " +
+           "(:keyword IS NULL OR d.title LIKE %:keyword% OR " +
+           "EXISTS (SELECT 1 FROM Debate f WHERE f.id = d.id AND f.content LIKE %:keyword%)) AND " +
+           "(:category IS NULL OR d.category = :category) AND " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:cursorId IS NULL OR d.createdAt < :cursorCreatedAt OR (d.createdAt = :cursorCreatedAt AND d.id < :cursorId)) " +
+           "ORDER BY d.createdAt DESC, d.id DESC")
+    Slice<DebateSummary> scrollLatest(@Param("keyword") String keyword,
+                                      @Param("category") Category category,
+                                      @Param("status") DebateStatus status,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 커서(키셋) 페이징: (view_count, id) 기준 조회수순
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT d FROM DebateSummary d WHERE d.isHidden = false AND " +
+           "(:keyword IS NULL OR d.title LIKE %:keyword% OR " +
+           "EXISTS (SELECT 1 FROM Debate f WHERE f.id = d.id AND f.content LIKE %:keyword%)) AND " +
+           "(:category IS NULL OR d.category = :category) AND " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:cursorId IS NULL OR d.viewCount < :cursorViewCount OR (d.viewCount = :cursorViewCount AND d.id < :cursorId)) " +
+           "ORDER BY d.viewCount DESC, d.id DESC")
+    Slice<DebateSummary> scrollByViews(@Param("keyword") String keyword,
+                                       @Param("category") Category category,
+                                       @Param("status") DebateStatus status,
+                                       @Param("cursorViewCount") Integer cursorViewCount,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    // 커서(키셋) 페이징 + FULLTEXT 검색: 최신순
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:cursorId IS NULL OR d.created_at < :cursorCreatedAt OR (d.created_at = :cursorCreatedAt AND d.id < :cursorId)) " +
+           "ORDER BY d.created_at DESC, d.id DESC", nativeQuery = true)
+    Slice<DebateSummary> scrollLatestByFullText(@Param("keyword") String keyword,
+                                                @Param("categoryId") Long categoryId,
+                                                @Param("status") String status,
+                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    // 커서(키셋) 페이징 + FULLTEXT 검색: 조회수순
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM debate d WHERE d.is_hidden = false AND " +
+           "MATCH(d.title, d.content) AGAINST (:keyword IN BOOLEAN MODE) AND " +
+           "(:categoryId IS NULL OR d.category_id = :categoryId) AND " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:cursorId IS NULL OR d.view_count < :cursorViewCount OR (d.view_count = :cursorViewCount AND d.id < :cursorId)) " +
+           "ORDER BY d.view_count DESC, d.id DESC", nativeQuery = true)
+    Slice<DebateSummary> scrollByViewsByFullText(@Param("keyword") String keyword,
+                                                 @Param("categoryId") Long categoryId,
+                                                 @Param("status") String status,
+                                                 @Param("cursorViewCount") Integer cursorViewCount,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT d FROM DebateSummary d WHERE d.isHidden = false ORDER BY d.viewCount DESC")
+    List<DebateSummary> findTopByOrderByViewCountDesc(Pageable pageable);
+}
@@ -21,5 +21,19 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     boolean existsByDebateIdAndUserId(@org.springframework.data.repository.query.Param("debateId") Long debateId, @org.springframework.data.repository.query.Param("userId") Long userId);
     
     long countByDebate(Debate debate);
+
+    // 사용자가 좋아요한 토론 ID 전체 (좋아요 집합 캐시 적재용)
+    @org.springframework.data.jpa.repository.Query("SELECT l.debate.id FROM Like l WHERE l.user.id = :userId")
+    java.util.List<Long> findDebateIdsByUserId(@org.springframework.data.repository.query.Param("userId") Long userId);
+
+    // 좋아요 추가 (이미 존재하거나 토론이 없으면 무시, 추가된 행 수 반환)
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query(value = "INSERT IGNORE INTO likes (debate_id, user_id, created_at) VALUES (:debateId, :userId, NOW())", nativeQuery = true)
+    int insertIgnore(@org.springframework.data.repository.query.Param("debateId") Long debateId, @org.springframework.data.repository.query.Param("userId") Long userId);
+
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query(value = "DELETE FROM likes WHERE debate_id = :debateId AND user_id = :userId", nativeQuery = true)
+    int deleteByDebateIdAndUserId(@org.springframework.data.repository.query.Param("debateId") Long debateId, @org.springframework.data.repository.query.Param("userId") Long userId);
 }
 
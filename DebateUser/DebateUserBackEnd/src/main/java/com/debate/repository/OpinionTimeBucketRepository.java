@@ -0,0 +1,36 @@
+package com.debate.repository;
+
+import com.debate.entity.OpinionTimeBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OpinionTimeBucketRepository extends JpaRepository<OpinionTimeBucket, Long> {
+    // 토론의 전체 시계열 (uk_debate_bucket 인덱스 범위 조회, 시간 순)
+    List<OpinionTimeBucket> findByDebateIdOrderByBucketStartAsc(Long debateId);
+
+    // 기준 시각 이전의 분 단위 버킷을 시간 단위 버킷으로 합산
+    @Modifying
+    @Query(value = "INSERT INTO opinion_time_bucket (debate_id, bucket_start, granularity, for_delta, against_delta, neutral_delta, other_delta) " +
+           "SELECT * FROM (" +
+           "SELECT debate_id, DATE_FORMAT(bucket_start, '%Y-%m-%d %H:00:00') AS hour_start, 'HOUR' AS hour_granularity, " +
+           "SUM(for_delta) AS sum_for, SUM(against_delta) AS sum_against, SUM(neutral_delta) AS sum_neutral, SUM(other_delta) AS sum_other " +
+           "FROM opinion_time_bucket WHERE granularity = 'MINUTE' AND bucket_start < :before " +
+           "GROUP BY debate_id, DATE_FORMAT(bucket_start, '%Y-%m-%d %H:00:00')) AS rolled " +
+           "ON DUPLICATE KEY UPDATE for_delta = opinion_time_bucket.for_delta + rolled.sum_for, " +
+           "against_delta = opinion_time_bucket.against_delta + rolled.sum_against, " +
+           "neutral_delta = opinion_time_bucket.neutral_delta + rolled.sum_neutral, " +
+           "other_delta = opinion_time_bucket.other_delta + rolled.sum_other", nativeQuery = true)
+    int rollUpMinuteBuckets(@Param("before") LocalDateTime before);
+
+    // 합산이 끝난 분 단위 버킷 삭제
+    @Modifying
+    @Query(value = "DELETE FROM opinion_time_bucket WHERE granularity = 'MINUTE' AND bucket_start < :before", nativeQuery = true)
+    int deleteMinuteBuckets(@Param("before") LocalDateTime before);
+}
@@ -14,6 +14,18 @@ public interface UserRepository extends JpaRepository<User, Long> {//debate 테
     boolean existsByNickname(String nickname);
     Optional<User> findByNickname(String nickname);
 
+    // 채팅 참여자 정보 (닉네임/프로필/상태만 조회)
+    @org.springframework.data.jpa.repository.Query("SELECT u.id AS id, u.nickname AS nickname, u.profileImage AS profileImage, u.status AS status " +
+           "FROM User u WHERE u.id IN :ids")
+    java.util.List<ParticipantRow> findParticipantsByIdIn(@org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
+    interface ParticipantRow {
+        Long getId();
+        String getNickname();
+        String getProfileImage();
+        User.UserStatus getStatus();
+    }
+
     // [추가] 랭킹 쿼리
     // 1. 토론 좋아요 순
     @org.springframework.data.jpa.repository.Query("SELECT new com.debate.dto.response.UserRankingResponse(d.user, COUNT(l)) " +
@@ -0,0 +1,92 @@
+package com.debate.scheduler;
+
+import com.debate.entity.CacheInvalidation;
+import com.debate.repository.CacheInvalidationRepository;
+import com.debate.service.ChatParticipantCache;
+import com.debate.service.CommentPageCache;
+import com.debate.service.DebateListCache;
+import com.debate.service.DebateStateCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 서버의 캐시 무효화 요청 처리 스케줄러
+ * 캐시 무효화 테이블에서 마지막으로 처리한 ID 이후의 요청을 주기적으로 읽어 해당 메모리 캐시 항목을 무효화합니다.
+ * 동시 트랜잭션이 ID 순서와 다르게 커밋되어 건너뛴 요청은 각 캐시의 만료 시간 안에 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationScheduler {
+    // 한 번에 처리하는 최대 요청 수
+    private static final int BATCH_SIZE = 500;
+    // 처리된 요청 보관 기간 (시간)
+    private static final int RETENTION_HOURS = 1;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final CommentPageCache commentPageCache;
+    private final DebateStateCache debateStateCache;
+    private final DebateListCache debateListCache;
+    private final ChatParticipantCache chatParticipantCache;
+
+    // 마지막으로 처리한 무효화 ID (기동 전까지는 -1로 처리 보류)
+    private volatile long lastId = -1;
+
+    /**
+     * 애플리케이션 기동 시 기준점 설정 (기동 시점의 캐시는 비어 있으므로 이전 요청은 처리할 필요 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lastId = cacheInvalidationRepository.findMaxId();
+    }
+
+    /**
+     * 2초마다 새 무효화 요청 처리
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void pollInvalidations() {
+        if (lastId < 0) {
+            return;
+        }
+        List<CacheInvalidation> invalidations;
+        do {
+            invalidations = cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (CacheInvalidation invalidation : invalidations) {
+                apply(invalidation);
+                lastId = invalidation.getId();
+            }
+        } while (invalidations.size() == BATCH_SIZE);
+    }
+
+    /**
+     * 매시 정각에 보관 기간이 지난 요청 삭제
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void purgeInvalidations() {
+        int deleted = cacheInvalidationRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusHours(RETENTION_HOURS));
+        if (deleted > 0) {
+            log.debug("Purged {} processed cache invalidations", deleted);
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        switch (invalidation.getCacheName()) {
+            case CacheInvalidation.COMMENT_PAGE -> commentPageCache.evictDebateNow(invalidation.getTargetId());
+            case CacheInvalidation.DEBATE_STATE -> debateStateCache.evictNow(invalidation.getTargetId());
+            // 숨김/상태 변경은 해당 토론이 없던 목록에도 영향을 주므로 전체 무효화 (관리자 변경은 드묾)
+            case CacheInvalidation.DEBATE_LIST -> debateListCache.evictAll();
+            case CacheInvalidation.CHAT_PARTICIPANT -> chatParticipantCache.evictNow(invalidation.getTargetId());
+            default -> log.warn("Unknown cache invalidation: {}", invalidation.getCacheName());
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package com.debate.scheduler;
 
+import com.debate.entity.BackfillHistory;
+import com.debate.repository.BackfillHistoryRepository;
+import com.debate.service.CommentService;
 import com.debate.service.DebateService;
+import com.debate.service.VoteBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DebateScheduler {
 
     private final DebateService debateService;
+    private final CommentService commentService;
+    private final VoteBuffer voteBuffer;
+    private final BackfillHistoryRepository backfillHistoryRepository;
+
+    // 백필 이력과 관계없이 기동 시 전체 카운터 재계산 여부
+    @Value("${counter-reconcile.on-startup:false}")
+    private boolean reconcileOnStartup;
 
     /**
      * 1분마다 토론 상태 업데이트 (SCHEDULED -> ACTIVE, ACTIVE -> ENDED)
@@ -20,6 +37,83 @@ public class DebateScheduler {
     @Scheduled(cron = "0 * * * * *")
     public void scheduleDebateStatusUpdate() {
         log.info("Executing debate status update task");
+        // 종료 처리 전에 버퍼에 남은 투표 반영 (기간 안에 접수된 투표가 종료 후 반영되지 않도록)
+        voteBuffer.flush();
         debateService.updateDebateStatus();
     }
-}
\ No newline at end of file
+
+    /**
+     * 애플리케이션 기동 시 카운터 최초 백필
+     * 카운터 컬럼은 기본값 0으로 추가되므로, 백필 이력이 없으면 한 번 전체 재계산하고 이력을 남깁니다.
+     * 이후 기동에서는 건너뛰고 드리프트는 새벽 재계산이 보정합니다. (counter-reconcile.on-startup=true 이면 매 기동 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileCountsOnStartup() {
+        boolean backfilled = backfillHistoryRepository.existsById(BackfillHistory.COUNTERS);
+        if (backfilled && !reconcileOnStartup) {
+            return;
+        }
+        scheduleEngagementCountReconcile();
+        scheduleCommentCountReconcile();
+        if (!backfilled) {
+            try {
+                backfillHistoryRepository.save(BackfillHistory.builder()
+                        .name(BackfillHistory.COUNTERS)
+                        .completedAt(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 동시에 백필을 마치고 이력을 남긴 경우
+                log.debug("Counter backfill already recorded by another instance");
+            }
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 토론 카운터(좋아요/댓글/의견 수) 재계산
+     * 드리프트 보정을 담당합니다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void scheduleEngagementCountReconcile() {
+        int updated = debateService.reconcileEngagementCounts();
+        log.info("Reconciled engagement counters for {} debates", updated);
+    }
+
+    /**
+     * 매일 새벽 4시 30분에 댓글 카운터(대댓글/좋아요 수) 재계산
+     * 드리프트 보정을 담당합니다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void scheduleCommentCountReconcile() {
+        int updated = commentService.reconcileCommentCounts();
+        log.info("Reconciled reply/like counters for {} comments", updated);
+    }
+
+    /**
+     * 애플리케이션 기동 시 및 1시간마다 구체화 경로(path)가 비어 있는 댓글의 경로 백필
+     * 경로 컬럼 추가 이전에 작성된 댓글을 처리합니다. (새 대댓글은 부모 경로가 채워진 뒤에만 작성 가능)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public void scheduleCommentPathBackfill() {
+        int updated = commentService.backfillPaths();
+        if (updated > 0) {
+            log.info("Backfilled tree paths for {} comments", updated);
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 미리보기(excerpt)가 없는 기존 토론의 미리보기 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleExcerptBackfill() {
+        int total = 0;
+        int processed;
+        do {
+            processed = debateService.backfillExcerpts(200);
+            total += processed;
+        } while (processed > 0);
+        if (total > 0) {
+            log.info("Generated excerpts for {} debates", total);
+        }
+    }
+}
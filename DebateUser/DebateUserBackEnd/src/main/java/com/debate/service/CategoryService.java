@@ -6,7 +6,6 @@ import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,10 +28,7 @@ public class CategoryService {
         return categories.stream()
                 .map(category -> {
                     // 해당 카테고리의 토론 개수 조회 (숨김 처리되지 않은 토론만)
-                    long debateCount = debateRepository.findByCategoryAndIsHiddenFalse(
-                            category, 
-                            Pageable.unpaged()
-                    ).getTotalElements();
+                    long debateCount = debateRepository.countByCategoryAndIsHiddenFalse(category);
                     
                     return CategoryResponse.from(category, debateCount);
                 })
@@ -51,10 +47,7 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
         
         // 해당 카테고리의 토론 개수 조회 (숨김 처리되지 않은 토론만)
-        long debateCount = debateRepository.findByCategoryAndIsHiddenFalse(
-                category, 
-                Pageable.unpaged()
-        ).getTotalElements();
+        long debateCount = debateRepository.countByCategoryAndIsHiddenFalse(category);
         
         return CategoryResponse.from(category, debateCount);
     }
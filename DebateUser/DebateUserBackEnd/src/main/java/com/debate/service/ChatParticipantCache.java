@@ -0,0 +1,137 @@
+package com.debate.service;
+
+import com.debate.entity.User;
+import com.debate.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 참여자 캐시
+ * 채팅 메시지마다 사용자 엔티티를 다시 읽지 않도록 메시지에 붙는 작성자 정보(닉네임/프로필/활성 여부)만 메모리에 보관합니다.
+ * 사용자 서버의 프로필 변경은 커밋 직후, 관리자 서버의 회원 상태 변경은 캐시 무효화 테이블을 통해 무효화됩니다.
+ */
+@Component
+public class ChatParticipantCache {
+    private final UserRepository userRepository;
+
+    private final LoadingCache<Long, ChatParticipant> cache;
+
+    public ChatParticipantCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ChatParticipant load(Long userId) {
+                        return loadParticipants(Set.of(userId)).get(userId);
+                    }
+
+                    @Override
+                    public Map<Long, ChatParticipant> loadAll(Set<? extends Long> userIds) {
+                        return loadParticipants(userIds);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chatParticipant");
+    }
+
+    /**
+     * 채팅 참여자 스냅샷
+     *
+     * @param userId 사용자 ID
+     * @param nickname 닉네임
+     * @param profileImage 프로필 이미지 URL (경로 변환 적용)
+     * @param active 활성 회원 여부 (정지/삭제 회원은 false)
+     */
+    public record ChatParticipant(Long userId, String nickname, String profileImage, boolean active) {
+    }
+
+    /**
+     * 참여자 조회
+     *
+     * @param userId 사용자 ID
+     * @return 참여자 정보 (사용자가 없으면 null)
+     */
+    public ChatParticipant get(Long userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * 여러 참여자 일괄 조회 (캐시에 없는 사용자만 한 번의 IN 조회로 적재)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 참여자 정보 (존재하지 않는 사용자는 제외)
+     */
+    public Map<Long, ChatParticipant> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds);
+    }
+
+    /**
+     * 프로필 변경 시 무효화 (커밋 후)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 다른 서버(관리자)의 변경으로 인한 무효화 (트랜잭션 밖에서 즉시 적용)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictNow(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 프로필 이미지 URL 경로 변환
+     * 기존 /files/editor/images/ 경로를 /files/user/profile/ 경로로 변환
+     */
+    static String normalizeProfileImageUrl(String profileImage) {
+        if (profileImage == null || profileImage.isEmpty()) {
+            return profileImage;
+        }
+        // 기존 경로를 새 경로로 변환
+        if (profileImage.startsWith("/files/editor/images/")) {
+            return profileImage.replace("/files/editor/images/", "/files/user/profile/");
+        }
+        return profileImage;
+    }
+
+    private Map<Long, ChatParticipant> loadParticipants(Collection<? extends Long> userIds) {
+        List<UserRepository.ParticipantRow> rows = userRepository.findParticipantsByIdIn(List.copyOf(userIds));
+        return rows.stream()
+                .map(row -> new ChatParticipant(row.getId(), row.getNickname(),
+                        normalizeProfileImageUrl(row.getProfileImage()), row.getStatus() == User.UserStatus.ACTIVE))
+                .collect(Collectors.toMap(ChatParticipant::userId, Function.identity()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
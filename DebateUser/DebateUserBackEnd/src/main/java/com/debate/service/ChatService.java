@@ -2,24 +2,26 @@ package com.debate.service;
 
 import com.debate.dto.ChatMessageDTO;
 import com.debate.entity.ChatMessage;
-import com.debate.entity.Debate;
-import com.debate.entity.User;
 import com.debate.repository.ChatMessageRepository;
 import com.debate.repository.DebateRepository;
-import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * 채팅 서비스
  * 채팅 메시지 저장 및 조회 기능 제공
+ * 토론 상태와 작성자 정보는 캐시에서 읽으므로 메시지 전송 경로에서는 SELECT가 발생하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,33 +30,48 @@ public class ChatService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final DebateRepository debateRepository;
-    private final UserRepository userRepository;
+    private final TrendingService trendingService;
+    private final DebateStateCache debateStateCache;
+    private final ChatParticipantCache chatParticipantCache;
+    private final ChatWriteBuffer chatWriteBuffer;
 
     /**
      * 채팅 메시지 저장
+     * 임시 ID를 붙여 바로 반환(브로드캐스트)하고, 실제 저장은 쓰기 버퍼에서 일괄 처리합니다.
      * 
      * @param debateId 토론 ID
      * @param userId 사용자 ID
      * @param message 메시지 내용
-     * @return 저장된 메시지 DTO
+     * @return 브로드캐스트할 메시지 DTO (id는 비어 있고 tempId가 채워짐)
      */
-    @Transactional
     public ChatMessageDTO saveMessage(Long debateId, Long userId, String message) {
-        Debate debate = debateRepository.findById(debateId)
-                .orElseThrow(() -> new IllegalArgumentException("토론을 찾을 수 없습니다: " + debateId));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        DebateStateCache.DebateState debate = debateStateCache.get(debateId);
+        if (debate == null || debate.hidden()) {
+            throw new IllegalArgumentException("토론을 찾을 수 없습니다: " + debateId);
+        }
+
+        ChatParticipantCache.ChatParticipant participant = chatParticipantCache.get(userId);
+        if (participant == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        if (!participant.active()) {
+            throw new IllegalArgumentException("채팅할 수 없는 사용자입니다: " + userId);
+        }
 
-        ChatMessage chatMessage = ChatMessage.builder()
-                .debate(debate)
-                .user(user)
+        LocalDateTime now = LocalDateTime.now();
+        chatWriteBuffer.enqueue(new ChatWriteBuffer.PendingMessage(debateId, userId, message, now));
+        trendingService.record(debateId, debate.categoryId(), TrendingService.Activity.CHAT);
+
+        return ChatMessageDTO.builder()
+                .tempId(UUID.randomUUID().toString())
+                .debateId(debateId)
+                .userId(participant.userId())
+                .nickname(participant.nickname())
+                .profileImage(participant.profileImage())
                 .message(message)
+                .createdAt(now)
+                .type(ChatMessageDTO.MessageType.CHAT)
                 .build();
-
-        ChatMessage saved = chatMessageRepository.save(chatMessage);
-        
-        return toDTO(saved, user);
     }
 
     /**
@@ -66,47 +83,38 @@ public class ChatService {
      */
     @Transactional(readOnly = true)
     public List<ChatMessageDTO> getRecentMessages(Long debateId, int limit) {
-        Debate debate = debateRepository.findById(debateId)
-                .orElseThrow(() -> new IllegalArgumentException("토론을 찾을 수 없습니다: " + debateId));
+        if (debateStateCache.get(debateId) == null) {
+            throw new IllegalArgumentException("토론을 찾을 수 없습니다: " + debateId);
+        }
 
         // 최신 메시지부터 limit개 조회
-        List<ChatMessage> messages = chatMessageRepository
-                .findByDebateOrderByCreatedAtDesc(debate, PageRequest.of(0, limit))
-                .getContent();
+        List<ChatMessage> messages = new ArrayList<>(chatMessageRepository
+                .findByDebateOrderByCreatedAtDesc(debateRepository.getReferenceById(debateId), PageRequest.of(0, limit))
+                .getContent());
 
         // 시간순 정렬 (오래된 것 먼저)
         Collections.reverse(messages);
 
+        // 작성자 정보는 캐시에서 일괄 조회 (캐시에 없는 작성자만 한 번에 적재)
+        Map<Long, ChatParticipantCache.ChatParticipant> participants = chatParticipantCache.getAll(messages.stream()
+                .map(msg -> msg.getUser().getId())
+                .collect(Collectors.toSet()));
+
         return messages.stream()
-                .map(msg -> toDTO(msg, msg.getUser()))
+                .map(msg -> toDTO(msg, debateId, participants.get(msg.getUser().getId())))
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 프로필 이미지 URL 경로 변환
-     * 기존 /files/editor/images/ 경로를 /files/user/profile/ 경로로 변환
-     */
-    private String normalizeProfileImageUrl(String profileImage) {
-        if (profileImage == null || profileImage.isEmpty()) {
-            return profileImage;
-        }
-        // 기존 경로를 새 경로로 변환
-        if (profileImage.startsWith("/files/editor/images/")) {
-            return profileImage.replace("/files/editor/images/", "/files/user/profile/");
-        }
-        return profileImage;
-    }
-
     /**
      * Entity를 DTO로 변환
      */
-    private ChatMessageDTO toDTO(ChatMessage chatMessage, User user) {
+    private ChatMessageDTO toDTO(ChatMessage chatMessage, Long debateId, ChatParticipantCache.ChatParticipant participant) {
         return ChatMessageDTO.builder()
                 .id(chatMessage.getId())
-                .debateId(chatMessage.getDebate().getId())
-                .userId(user.getId())
-                .nickname(user.getNickname())
-                .profileImage(normalizeProfileImageUrl(user.getProfileImage()))
+                .debateId(debateId)
+                .userId(chatMessage.getUser().getId())
+                .nickname(participant != null ? participant.nickname() : null)
+                .profileImage(participant != null ? participant.profileImage() : null)
                 .message(chatMessage.getMessage())
                 .createdAt(chatMessage.getCreatedAt())
                 .type(ChatMessageDTO.MessageType.CHAT)
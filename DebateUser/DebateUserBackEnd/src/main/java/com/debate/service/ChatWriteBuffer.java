@@ -0,0 +1,272 @@
+package com.debate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅 메시지 쓰기 버퍼
+ * 메시지는 임시 ID로 먼저 브로드캐스트되고, 크기 제한이 있는 큐에 쌓였다가
+ * 전용 쓰기 스레드가 다중 행 INSERT 한 번으로 모아서 저장합니다.
+ * 큐가 가득 차면 호출 스레드에서 바로 저장하여(역압) 메시지를 버리지 않으며,
+ * 애플리케이션 종료 시 큐에 남은 메시지를 모두 저장한 뒤 종료합니다.
+ * 데이터 오류(삭제된 토론/사용자 등)는 한 건씩 다시 저장해 해당 메시지만 버리고,
+ * DB/커넥션 장애는 쓰기 스레드가 같은 묶음을 간격을 늘려가며 재시도합니다. (장애 중 큐가 넘치면 호출 스레드를 막지 않고 버림)
+ */
+@Slf4j
+@Component
+public class ChatWriteBuffer {
+    private static final String INSERT_PREFIX = "INSERT INTO chat_messages (debate_id, user_id, message, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    // 종료 시 쓰기 스레드 대기 최대 시간
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    // DB 장애 시 재시도 간격 (최초/최대)
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxWaitMillis;
+
+    private final BlockingQueue<PendingMessage> queue;
+    private final Counter persistedCounter;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    // 실행 상태 변경과 큐 추가의 직렬화 (종료 후 큐에 들어가 저장되지 않는 메시지 방지)
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    // 쓰기 스레드가 DB 장애로 재시도 중인지 여부
+    private volatile boolean unavailable;
+    private Thread writer;
+
+    public ChatWriteBuffer(JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat-buffer.enabled:false}") boolean enabled,
+                           @Value("${chat-buffer.capacity:10000}") int capacity,
+                           @Value("${chat-buffer.batch-size:200}") int batchSize,
+                           @Value("${chat-buffer.max-wait-ms:20}") long maxWaitMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        meterRegistry.gaugeCollectionSize("chat.buffer.pending", List.of(), queue);
+        this.persistedCounter = meterRegistry.counter("chat.buffer.persisted");
+        this.overflowCounter = meterRegistry.counter("chat.buffer.overflow");
+        this.droppedCounter = meterRegistry.counter("chat.buffer.dropped");
+        this.flushTimer = meterRegistry.timer("chat.buffer.flush");
+    }
+
+    /**
+     * 저장 대기 중인 채팅 메시지
+     *
+     * @param debateId 토론 ID
+     * @param userId 작성자 ID
+     * @param message 메시지 내용
+     * @param createdAt 브로드캐스트 시각 (저장 시 생성 일시로 사용)
+     */
+    public record PendingMessage(Long debateId, Long userId, String message, LocalDateTime createdAt) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "chat-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 메시지 저장 요청
+     * 큐에 자리가 없거나 버퍼가 비활성화된 경우 호출 스레드에서 바로 저장합니다.
+     * 단, 쓰기 스레드가 DB 장애로 재시도 중이면 호출 스레드(브로커 스레드)가 막히지 않도록 넘친 메시지를 버립니다.
+     *
+     * @param message 저장할 메시지
+     */
+    public void enqueue(PendingMessage message) {
+        stateLock.readLock().lock();
+        try {
+            if (running) {
+                if (queue.offer(message)) {
+                    return;
+                }
+                overflowCounter.increment();
+                if (unavailable) {
+                    drop(List.of(message), null);
+                    return;
+                }
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        drop(write(List.of(message)), null);
+    }
+
+    /**
+     * 애플리케이션 종료 시 쓰기 스레드를 멈추고 남은 메시지 저장
+     * 쓰기 스레드는 인터럽트하지 않고 진행 중인 저장을 마친 뒤 다음 대기(최대 max-wait-ms)에서 스스로 종료하도록 합니다.
+     * (저장 도중 인터럽트되면 JDBC 드라이버가 커넥션을 닫아 해당 묶음이 유실될 수 있음)
+     */
+    @PreDestroy
+    public void shutdown() {
+        stop();
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 실행 상태를 잠금 아래에서 내렸으므로 이후에는 큐에 새 메시지가 들어오지 않음
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            drop(write(batch), null);
+            batch.clear();
+        }
+    }
+
+    private void stop() {
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingMessage first = queue.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                // 외부 인터럽트: 이후 메시지는 호출 스레드에서 바로 저장하고, 남은 메시지는 shutdown()에서 저장
+                stop();
+                unavailable = false;
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("채팅 메시지 쓰기 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * DB 장애로 저장하지 못한 메시지를 간격을 늘려가며 재시도 (종료 요청 시 남은 메시지는 버림)
+     */
+    private void writeWithRetry(List<PendingMessage> batch) throws InterruptedException {
+        List<PendingMessage> remaining = write(batch);
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (!remaining.isEmpty()) {
+            if (!running) {
+                drop(remaining, null);
+                break;
+            }
+            unavailable = true;
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                drop(remaining, e);
+                throw e;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            remaining = write(remaining);
+        }
+        unavailable = false;
+    }
+
+    /**
+     * 메시지 묶음을 다중 행 INSERT 한 번으로 저장
+     * 데이터 오류(삭제된 토론/사용자 등)이면 한 건씩 다시 저장하고 그래도 데이터 오류인 메시지만 버립니다.
+     * DB/커넥션 장애는 한 건씩 재시도하지 않고(장애 중 건별 대기 방지) 저장하지 못한 메시지로 돌려줍니다.
+     *
+     * @return DB 장애로 저장하지 못한 메시지 (재시도 대상)
+     */
+    private List<PendingMessage> write(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        try {
+            flushTimer.record(() -> insert(batch));
+            persistedCounter.increment(batch.size());
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                drop(batch, e);
+                return List.of();
+            }
+            log.warn("채팅 메시지 일괄 저장 실패, 개별 저장으로 재시도 - {}건", batch.size(), e);
+            List<PendingMessage> remaining = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                List<PendingMessage> failed = write(List.of(batch.get(i)));
+                if (!failed.isEmpty()) {
+                    // 개별 저장 중 장애가 나면 나머지는 시도하지 않고 재시도 대상으로 넘김
+                    remaining.addAll(batch.subList(i, batch.size()));
+                    break;
+                }
+            }
+            return remaining;
+        } catch (Exception e) {
+            log.warn("채팅 메시지 저장 실패 (DB 장애) - {}건", batch.size(), e);
+            return new ArrayList<>(batch);
+        }
+    }
+
+    private void drop(List<PendingMessage> messages, Exception cause) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        droppedCounter.increment(messages.size());
+        PendingMessage first = messages.get(0);
+        log.error("채팅 메시지 저장 실패, {}건 버림 - 토론: {}, 사용자: {}", messages.size(), first.debateId(), first.userId(), cause);
+    }
+
+    private void insert(List<PendingMessage> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 4];
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+            args[i * 4] = message.debateId();
+            args[i * 4 + 1] = message.userId();
+            args[i * 4 + 2] = message.message();
+            args[i * 4 + 3] = Timestamp.valueOf(message.createdAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
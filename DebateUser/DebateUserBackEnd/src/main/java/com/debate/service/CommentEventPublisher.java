@@ -0,0 +1,48 @@
+package com.debate.service;
+
+import com.debate.dto.response.CommentEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 댓글 변경 이벤트 발행기
+ * 댓글 작성/수정/삭제/좋아요를 STOMP 브로커의 /topic/debate/{debateId}/comments로 브로드캐스트하여,
+ * 클라이언트가 댓글 목록을 다시 조회하지 않고 변경분만 반영할 수 있도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentEventPublisher {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 댓글 변경 이벤트 발행 (트랜잭션 커밋 후 전송, 롤백 시 전송하지 않음)
+     *
+     * @param debateId 토론 ID
+     * @param event 변경 이벤트
+     */
+    public void publish(Long debateId, CommentEvent event) {
+        Runnable send = () -> {
+            try {
+                messagingTemplate.convertAndSend("/topic/debate/" + debateId + "/comments", event);
+            } catch (Exception e) {
+                // 브로드캐스트 실패가 댓글 처리에 영향을 주지 않도록 예외 처리
+                log.warn("댓글 이벤트 전송 실패 - 토론: {}, 이벤트: {}", debateId, event.getType(), e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
+        }
+    }
+}
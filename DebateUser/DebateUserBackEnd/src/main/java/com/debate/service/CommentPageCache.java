@@ -0,0 +1,104 @@
+package com.debate.service;
+
+import com.debate.dto.response.CommentResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 토론 댓글 첫 페이지 캐시
+ * 토론 × 정렬 × 페이지 크기별 첫 페이지(대댓글 미리보기 포함)를 사용자 공통으로 보관합니다.
+ * 캐시 항목에는 현재 사용자 좋아요 여부가 없으며, 조회 시 좋아요 집합 캐시로 덧씌웁니다.
+ * 사용자 서버의 댓글 변경은 커밋 직후, 관리자 서버의 변경은 캐시 무효화 테이블을 통해 무효화됩니다.
+ * 적중/미적중 통계는 Micrometer 메트릭(cache=commentPage)으로 노출됩니다.
+ */
+@Component
+public class CommentPageCache {
+    private final Cache<PageKey, Page<CommentResponse>> cache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .recordStats()
+            .build();
+
+    public CommentPageCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentPage");
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param debateId 토론 ID
+     * @param sort 정렬 조건 (Sort.toString())
+     * @param size 페이지 크기
+     */
+    public record PageKey(Long debateId, String sort, int size) {
+    }
+
+    /**
+     * 캐시된 첫 페이지 조회, 없으면 loader로 조회 후 저장
+     */
+    public Page<CommentResponse> get(PageKey key, Supplier<Page<CommentResponse>> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 댓글 작성/수정/삭제/숨김 시 해당 토론의 캐시 전체 무효화
+     *
+     * @param debateId 토론 ID
+     */
+    public void evictDebate(Long debateId) {
+        evictAfterCommit(key -> debateId.equals(key.debateId()), null);
+    }
+
+    /**
+     * 댓글 좋아요 변경 시 해당 댓글이 포함된 페이지와, 좋아요 수로 정렬된 페이지만 무효화
+     *
+     * @param debateId 토론 ID
+     * @param commentId 좋아요가 변경된 댓글 ID
+     */
+    public void evictComment(Long debateId, Long commentId) {
+        evictAfterCommit(key -> debateId.equals(key.debateId()) && key.sort().contains("likeCount"),
+                page -> page.getContent().stream().anyMatch(comment -> commentId.equals(comment.getId())
+                        || (comment.getReplies() != null && comment.getReplies().stream()
+                                .anyMatch(reply -> commentId.equals(reply.getId())))));
+    }
+
+    /**
+     * 다른 서버(관리자)의 변경으로 인한 무효화 (트랜잭션 밖에서 즉시 적용)
+     *
+     * @param debateId 토론 ID
+     */
+    public void evictDebateNow(Long debateId) {
+        cache.asMap().keySet().removeIf(key -> debateId.equals(key.debateId()));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 무효화 (커밋 전 데이터로 캐시가 다시 채워지는 것을 방지)
+     *
+     * @param keyPredicate 키만으로 판정하는 무효화 조건
+     * @param pagePredicate 캐시된 페이지 내용으로 판정하는 추가 무효화 조건 (없으면 null)
+     */
+    private void evictAfterCommit(Predicate<PageKey> keyPredicate, Predicate<Page<CommentResponse>> pagePredicate) {
+        Runnable eviction = () -> cache.asMap().entrySet().removeIf(entry -> keyPredicate.test(entry.getKey())
+                || (pagePredicate != null && pagePredicate.test(entry.getValue())));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.debate.service;
 
 import com.debate.dto.request.CreateCommentRequest;
+import com.debate.dto.response.CommentEvent;
 import com.debate.dto.response.CommentResponse;
+import com.debate.dto.response.CommentThreadResponse;
+import com.debate.dto.response.CursorSliceResponse;
+import com.debate.dto.response.LikeToggleResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.Comment;
 import com.debate.entity.User;
@@ -9,13 +13,23 @@ import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CommentRepository;
+import com.debate.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +41,19 @@ public class CommentService {
     private final com.debate.repository.UserRepository userRepository;
 
     private final NotificationService notificationService;
+    private final DebateListCache debateListCache;
+    private final TrendingService trendingService;
+    private final LikedSetCache likedSetCache;
+    private final CommentEventPublisher commentEventPublisher;
+    private final CommentPageCache commentPageCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 댓글 목록에 함께 포함하는 부모 댓글당 대댓글 수
+    private static final int INLINE_REPLY_COUNT = 3;
+    // 대댓글 커서 페이징 최대 페이지 크기
+    private static final int MAX_REPLY_PAGE_SIZE = 100;
+    // 스레드 조회 시 한 번에 읽는 최대 댓글 수
+    private static final int MAX_THREAD_SIZE = 500;
 
     @Transactional
     public CommentResponse createComment(CreateCommentRequest request, Long userId) {
@@ -43,6 +70,13 @@ public class CommentService {
             if (!parent.getDebate().getId().equals(debate.getId())) {
                 throw new BadRequestException("기존 댓글이 해당 토론에 속하지 않습니다");
             }
+            // 경로 백필 전 부모는 깊이도 확정되지 않았으므로 깊이 제한을 검사할 수 없음
+            if (parent.getPath() == null) {
+                throw new BadRequestException("댓글을 준비 중입니다. 잠시 후 다시 시도해주세요");
+            }
+            if (parent.getDepth() + 1 > Comment.MAX_DEPTH) {
+                throw new BadRequestException("더 이상 대댓글을 달 수 없습니다");
+            }
         }
 
         Comment comment = Comment.builder()
@@ -54,6 +88,22 @@ public class CommentService {
                 .build();
 
         comment = commentRepository.save(comment);
+        // ID 할당 후 경로 설정 (부모 경로는 위에서 확인함)
+        comment.assignPath();
+        if (parent != null) {
+            commentRepository.adjustReplyCount(parent.getId(), 1);
+        }
+        debateRepository.adjustCommentCount(debate.getId(), 1);
+        debateListCache.evictDebate(debate.getId(), "comments");
+        commentPageCache.evictDebate(debate.getId());
+        trendingService.record(debate, TrendingService.Activity.COMMENT);
+        commentEventPublisher.publish(debate.getId(), CommentEvent.builder()
+                .type(CommentEvent.Type.CREATED)
+                .commentId(comment.getId())
+                .parentId(parent != null ? parent.getId() : null)
+                .actorId(userId)
+                .comment(CommentResponse.from(comment))
+                .build());
 
         // 알림 생성 로직
         try {
@@ -88,34 +138,212 @@ public class CommentService {
         return content.length() > 15 ? content.substring(0, 20) + "..." : content;
     }
 
+    /**
+     * 토론의 댓글 목록 조회 (부모 댓글별 처음 몇 개의 대댓글 포함)
+     * 첫 페이지는 사용자 공통 캐시에서 제공하고, 현재 사용자의 좋아요 여부만 좋아요 집합 캐시로 덧씌웁니다.
+     * 나머지 대댓글은 getReplies로 이어서 조회합니다.
+     */
     public Page<CommentResponse> getCommentsByDebate(Long debateId, Pageable pageable, Long userId) {
-        Debate debate = debateRepository.findById(debateId)
-                .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
+        Page<CommentResponse> page = pageable.getPageNumber() == 0
+                ? commentPageCache.get(
+                        new CommentPageCache.PageKey(debateId, pageable.getSort().toString(), pageable.getPageSize()),
+                        () -> loadCommentPage(debateId, pageable))
+                : loadCommentPage(debateId, pageable);
+        return overlayLiked(page, userId);
+    }
+
+    /**
+     * 댓글 페이지 조회 (좋아요 여부 제외, 사용자 공통)
+     * 페이지의 부모 댓글과 대댓글을 각각 한 번의 쿼리로 조회한 뒤 메모리에서 트리를 구성합니다.
+     */
+    private Page<CommentResponse> loadCommentPage(Long debateId, Pageable pageable) {
+        if (!debateRepository.existsById(debateId)) {
+            throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+        }
+        Debate debate = debateRepository.getReferenceById(debateId);
 
         Page<Comment> comments = commentRepository.findByDebateAndIsHiddenFalseAndParentIsNull(debate, pageable);
+        if (comments.isEmpty()) {
+            return comments.map(CommentResponse::from);
+        }
+
+        // 페이지의 부모 댓글에 달린 대댓글 일괄 조회 후 부모 ID별로 묶음
+        List<Long> parentIds = comments.getContent().stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<Comment>> repliesByParent = commentRepository.findFirstRepliesByParentIds(parentIds, INLINE_REPLY_COUNT).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
 
         return comments.map(comment -> {
             CommentResponse response = CommentResponse.from(comment);
-            
-            // 현재 사용자가 좋아요를 눌렀는지 확인
-            if (userId != null) {
-                response.setLiked(commentLikeRepository.existsByCommentIdAndUserId(comment.getId(), userId));
-            }
-
-            List<Comment> replies = commentRepository.findByParent(comment);
-            response.setReplies(replies.stream()
-                    .map(reply -> {
-                        CommentResponse replyResponse = CommentResponse.from(reply);
-                        if (userId != null) {
-                            replyResponse.setLiked(commentLikeRepository.existsByCommentIdAndUserId(reply.getId(), userId));
-                        }
-                        return replyResponse;
-                    })
+            response.setReplies(repliesByParent.getOrDefault(comment.getId(), List.of()).stream()
+                    .map(CommentResponse::from)
                     .collect(Collectors.toList()));
             return response;
         });
     }
 
+    /**
+     * 현재 사용자의 좋아요 여부 덧씌우기
+     * 캐시된 응답 객체는 공유되므로 수정하지 않고, 좋아요한 댓글이 있을 때만 복사본을 만듭니다.
+     */
+    private Page<CommentResponse> overlayLiked(Page<CommentResponse> page, Long userId) {
+        if (userId == null || page.isEmpty()) {
+            return page;
+        }
+
+        // 현재 사용자가 좋아요한 댓글 ID 판정 (부모 댓글 + 대댓글)
+        List<Long> commentIds = new ArrayList<>();
+        page.getContent().forEach(comment -> {
+            commentIds.add(comment.getId());
+            if (comment.getReplies() != null) {
+                comment.getReplies().forEach(reply -> commentIds.add(reply.getId()));
+            }
+        });
+        Set<Long> likedIds = likedSetCache.findLikedCommentIds(userId, commentIds);
+        if (likedIds.isEmpty()) {
+            return page;
+        }
+
+        return page.map(comment -> comment.toBuilder()
+                .liked(likedIds.contains(comment.getId()))
+                .replies(comment.getReplies() == null ? null : comment.getReplies().stream()
+                        .map(reply -> likedIds.contains(reply.getId()) ? reply.toBuilder().liked(true).build() : reply)
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    /**
+     * 댓글 스레드 조회 (하위 트리 전체)
+     * 구체화 경로 범위 조회 한 번으로 하위 댓글을 전위 순회 순서로 읽은 뒤 메모리에서 중첩 트리를 구성합니다.
+     * 삭제된 댓글은 자리 표시용으로 포함되고, 숨김 처리된 댓글은 그 하위 댓글과 함께 제외됩니다.
+     * 하위 댓글이 최대 개수를 넘으면 경로 순 앞쪽만 담고 잘렸음을 함께 반환합니다.
+     *
+     * @param commentId 스레드의 루트 댓글 ID
+     * @param userId 현재 사용자 ID (비로그인은 null)
+     * @return 하위 대댓글이 replies로 중첩된 루트 댓글과 잘림 여부
+     * @throws ResourceNotFoundException 댓글을 찾을 수 없거나 숨김 처리된 경우
+     */
+    public CommentThreadResponse getThread(Long commentId, Long userId) {
+        Comment root = commentRepository.findById(commentId)
+                .filter(comment -> !Boolean.TRUE.equals(comment.getIsHidden()))
+                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다"));
+        if (root.getPath() == null) {
+            throw new BadRequestException("스레드를 준비 중입니다. 잠시 후 다시 시도해주세요");
+        }
+
+        // 한 건 더 읽어 잘림 여부 판단
+        List<Comment> subtree = commentRepository.findSubtree(root.getPath(), PageRequest.of(0, MAX_THREAD_SIZE + 1));
+        boolean truncated = subtree.size() > MAX_THREAD_SIZE;
+        if (truncated) {
+            subtree = subtree.subList(0, MAX_THREAD_SIZE);
+        }
+
+        Set<Long> likedIds = userId != null
+                ? likedSetCache.findLikedCommentIds(userId, subtree.stream().map(Comment::getId).collect(Collectors.toList()))
+                : Set.of();
+
+        // 전위 순회 순서이므로 부모가 항상 자식보다 먼저 등장
+        Map<Long, CommentResponse> byId = new HashMap<>();
+        CommentResponse rootResponse = null;
+        for (Comment comment : subtree) {
+            CommentResponse response = CommentResponse.from(comment);
+            response.setLiked(likedIds.contains(comment.getId()));
+            response.setReplies(new ArrayList<>());
+            byId.put(comment.getId(), response);
+
+            if (comment.getId().equals(commentId)) {
+                rootResponse = response;
+            } else {
+                // 부모가 숨김 처리되어 조회되지 않은 댓글은 연결되지 않으므로 함께 제외됨
+                CommentResponse parentResponse = byId.get(response.getParentId());
+                if (parentResponse != null) {
+                    parentResponse.getReplies().add(response);
+                }
+            }
+        }
+        return CommentThreadResponse.builder()
+                .root(rootResponse != null ? rootResponse : CommentResponse.from(root))
+                .truncated(truncated)
+                .build();
+    }
+
+    /**
+     * 구체화 경로가 비어 있는 댓글의 경로 백필
+     * 최상위 댓글부터 한 단계씩 채우며, 더 채울 댓글이 없을 때 종료합니다.
+     *
+     * @return 경로가 채워진 댓글 수
+     */
+    @Transactional
+    public int backfillPaths() {
+        int total = commentRepository.backfillRootPaths();
+        for (int level = 0; level < Comment.MAX_DEPTH; level++) {
+            int updated = commentRepository.backfillChildPaths();
+            if (updated == 0) {
+                break;
+            }
+            total += updated;
+        }
+        return total;
+    }
+
+    /**
+     * 대댓글 목록 커서 페이징 조회
+     * (작성 일시, ID) 오름차순 키셋 조건으로 다음 페이지를 조회합니다.
+     *
+     * @param parentId 부모 댓글 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param userId 현재 사용자 ID (비로그인은 null)
+     * @return 대댓글 목록과 다음 페이지 커서
+     * @throws ResourceNotFoundException 부모 댓글을 찾을 수 없는 경우
+     */
+    public CursorSliceResponse<CommentResponse> getReplies(Long parentId, String cursor, int size, Long userId) {
+        if (!commentRepository.existsById(parentId)) {
+            throw new ResourceNotFoundException("댓글을 찾을 수 없습니다");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_REPLY_PAGE_SIZE));
+
+        // 커서 복원 (작성 일시, ID)
+        String[] position = CursorCodec.decode(cursor, 2);
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (position != null) {
+            try {
+                cursorCreatedAt = LocalDateTime.parse(position[0]);
+                cursorId = Long.valueOf(position[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("잘못된 커서입니다");
+            }
+        }
+
+        Slice<Comment> slice = commentRepository.scrollReplies(parentId, cursorCreatedAt, cursorId, PageRequest.of(0, pageSize));
+        List<Comment> replies = slice.getContent();
+
+        Set<Long> likedIds = userId != null
+                ? likedSetCache.findLikedCommentIds(userId, replies.stream().map(Comment::getId).collect(Collectors.toList()))
+                : Set.of();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !replies.isEmpty()) {
+            Comment last = replies.get(replies.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt().toString(), String.valueOf(last.getId()));
+        }
+
+        return CursorSliceResponse.<CommentResponse>builder()
+                .content(replies.stream()
+                        .map(reply -> {
+                            CommentResponse response = CommentResponse.from(reply);
+                            response.setLiked(likedIds.contains(reply.getId()));
+                            return response;
+                        })
+                        .collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
         Comment comment = commentRepository.findById(commentId)
@@ -126,56 +354,105 @@ public class CommentService {
         }
 
         // 1. 대댓글 존재 여부 확인
-        List<Comment> replies = commentRepository.findByParent(comment);
-        
-        if (!replies.isEmpty()) {
+        if (commentRepository.existsByParent(comment)) {
             // 대댓글이 있으면 Soft Delete (삭제 상태로 변경)
             comment.setIsDeleted(true);
             commentRepository.save(comment);
             
             // 좋아요는 삭제 (선택 사항이나 깔끔하게 제거)
             commentLikeRepository.deleteByCommentId(commentId);
+            commentRepository.resetLikeCount(commentId);
+            likedSetCache.removeComment(commentId);
+            commentPageCache.evictDebate(comment.getDebate().getId());
+            publishDeleted(comment, userId, true);
         } else {
             // 대댓글이 없으면 Hard Delete (완전 삭제)
             // 1. 댓글의 좋아요 삭제
             commentLikeRepository.deleteByCommentId(commentId);
+            likedSetCache.removeComment(commentId);
             // 2. 댓글 삭제
             commentRepository.delete(comment);
+            if (comment.getParent() != null) {
+                commentRepository.adjustReplyCount(comment.getParent().getId(), -1);
+            }
+            // 3. 토론 댓글 수 감소 (숨김 댓글은 카운트에 포함되지 않음)
+            if (!Boolean.TRUE.equals(comment.getIsHidden())) {
+                debateRepository.adjustCommentCount(comment.getDebate().getId(), -1);
+                debateListCache.evictDebate(comment.getDebate().getId(), "comments");
+            }
+            commentPageCache.evictDebate(comment.getDebate().getId());
+            publishDeleted(comment, userId, false);
         }
     }
 
+    private void publishDeleted(Comment comment, Long userId, boolean softDeleted) {
+        commentEventPublisher.publish(comment.getDebate().getId(), CommentEvent.builder()
+                .type(CommentEvent.Type.DELETED)
+                .commentId(comment.getId())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .actorId(userId)
+                .softDeleted(softDeleted)
+                .build());
+    }
+
+    /**
+     * 댓글 대댓글 수/좋아요 수 카운터 재계산
+     * 원본 테이블(comments, comment_likes)을 기준으로 드리프트를 보정합니다.
+     *
+     * @return 보정된 댓글 수
+     */
     @Transactional
-    public void toggleLike(Long commentId, Long userId) {
+    public int reconcileCommentCounts() {
+        return commentRepository.recalculateCounts();
+    }
+
+    /**
+     * 댓글 좋아요 처리
+     * 단일 DELETE / INSERT IGNORE 문의 영향 행 수로 상태를 판정하며, 알림은 커밋 후 비동기로 생성합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param userId 사용자 ID
+     * @param liked 원하는 좋아요 상태 (null이면 현재 상태를 반전)
+     * @return 처리 후 좋아요 상태와 좋아요 수 변화량
+     * @throws ResourceNotFoundException 댓글을 찾을 수 없는 경우
+     */
+    @Transactional
+    public LikeToggleResponse toggleLike(Long commentId, Long userId, Boolean liked) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다"));
 
-        if (commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
-            commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId);
-        } else {
-            User user = userRepository.getReferenceById(userId);
-            
-            com.debate.entity.CommentLike like = com.debate.entity.CommentLike.builder()
-                    .comment(comment)
-                    .user(user)
-                    .build();
-            
-            commentLikeRepository.save(like);
-
-            // 좋아요 알림 생성 (본인이 아닐 경우)
-            if (!comment.getUser().getId().equals(userId)) {
-                try {
-                    notificationService.createNotification(
-                            comment.getUser(),
-                            user.getNickname() + "님이 댓글을 좋아합니다.",
-                            "LIKE",
-                            "/debate/" + comment.getDebate().getId()
-                    );
-                } catch (Exception e) {
-                    System.err.println("알림 생성 실패: " + e.getMessage());
-                }
+        LikeToggleResponse result = null;
+        // 반전 요청이거나 취소 요청이면 먼저 삭제 시도
+        if (!Boolean.TRUE.equals(liked)) {
+            int deleted = commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId);
+            if (deleted > 0 || Boolean.FALSE.equals(liked)) {
+                result = LikeToggleResponse.builder().liked(false).delta(-deleted).build();
+            }
+        }
+        if (result == null) {
+            int inserted = commentLikeRepository.insertIgnore(commentId, userId);
+            result = LikeToggleResponse.builder().liked(true).delta(inserted).build();
+        }
+
+        // 상태가 바뀐 경우에만 카운터/캐시 갱신 및 이벤트 발행
+        if (result.getDelta() != 0) {
+            commentRepository.adjustLikeCount(commentId, result.getDelta());
+            likedSetCache.evictUser(userId);
+            commentPageCache.evictComment(comment.getDebate().getId(), commentId);
+            commentEventPublisher.publish(comment.getDebate().getId(), CommentEvent.builder()
+                    .type(CommentEvent.Type.LIKED)
+                    .commentId(commentId)
+                    .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                    .actorId(userId)
+                    .likeCount(Math.max(comment.getLikeCount() + result.getDelta(), 0))
+                    .build());
+            if (result.isLiked()) {
+                eventPublisher.publishEvent(new LikeNotificationListener.CommentLiked(commentId, userId));
             }
         }
+        return result;
     }
+
     @Transactional
     public CommentResponse updateComment(Long commentId, Long userId, String content) {
         Comment comment = commentRepository.findById(commentId)
@@ -186,6 +463,14 @@ public class CommentService {
         }
 
         comment.setContent(content);
+        commentPageCache.evictDebate(comment.getDebate().getId());
+        commentEventPublisher.publish(comment.getDebate().getId(), CommentEvent.builder()
+                .type(CommentEvent.Type.UPDATED)
+                .commentId(commentId)
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .actorId(userId)
+                .content(content)
+                .build());
         return CommentResponse.from(comment);
     }
 }
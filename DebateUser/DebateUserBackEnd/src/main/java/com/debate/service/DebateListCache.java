@@ -0,0 +1,129 @@
+package com.debate.service;
+
+import com.debate.dto.response.DebateResponse;
+import com.debate.entity.Debate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 토론 목록(홈/카테고리) 앞쪽 페이지 캐시
+ * 상태 × 정렬 × 카테고리 조합별 첫 N 페이지를 메모리에 보관하고,
+ * 토론/좋아요/댓글 변경 시 영향을 받는 항목만 무효화합니다.
+ * 적중/미적중 통계는 Micrometer 메트릭(cache.gets 등, cache=debateList)으로 노출됩니다.
+ * 무효화 중 적재되고 있던 페이지는 무효화 대상에서 빠지므로, 무효화 세대가 바뀐 동안 적재된 페이지는 저장 후 바로 제거합니다.
+ */
+@Component
+public class DebateListCache {
+    // 캐시하는 최대 페이지 수 (0 ~ MAX_CACHED_PAGES - 1 페이지)
+    private static final int MAX_CACHED_PAGES = 3;
+
+    private final Cache<ListKey, Page<DebateResponse>> cache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .recordStats()
+            .build();
+    // 무효화 세대 (무효화마다 증가)
+    private final AtomicLong generation = new AtomicLong();
+
+    public DebateListCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "debateList");
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param categoryId 카테고리 ID (전체 목록은 null)
+     * @param status 토론 상태 필터 (없으면 null)
+     * @param sort 정렬 기준
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     */
+    public record ListKey(Long categoryId, Debate.DebateStatus status, String sort, int page, int size) {
+    }
+
+    /**
+     * 캐시된 목록 조회, 없으면 loader로 조회 후 저장
+     * 캐시 대상 페이지 범위를 벗어나면 캐시를 거치지 않습니다.
+     */
+    public Page<DebateResponse> get(ListKey key, Supplier<Page<DebateResponse>> loader) {
+        if (key.page() >= MAX_CACHED_PAGES) {
+            return loader.get();
+        }
+        long startGeneration = generation.get();
+        Page<DebateResponse> page = cache.get(key, k -> loader.get());
+        if (generation.get() != startGeneration) {
+            // 적재 중 무효화가 있었으면 커밋 전 데이터일 수 있으므로 이번 응답에만 사용
+            cache.asMap().remove(key, page);
+        }
+        return page;
+    }
+
+    /**
+     * 토론 생성/수정/삭제 시 해당 카테고리 목록과 전체 목록 무효화
+     *
+     * @param categoryIds 변경된 토론의 카테고리 ID (수정 시 이전/이후 카테고리)
+     */
+    public void evictCategories(Long... categoryIds) {
+        evictAfterCommit((key, page) -> {
+            if (key.categoryId() == null) {
+                return true;
+            }
+            for (Long categoryId : categoryIds) {
+                if (Objects.equals(key.categoryId(), categoryId)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 좋아요/댓글 변경 시 해당 토론이 포함된 목록과, 변경된 지표로 정렬된 목록 무효화
+     *
+     * @param debateId 변경된 토론 ID
+     * @param affectedSort 순서가 바뀔 수 있는 정렬 기준 (popular, comments)
+     */
+    public void evictDebate(Long debateId, String affectedSort) {
+        evictAfterCommit((key, page) -> affectedSort.equals(key.sort())
+                || page.getContent().stream().anyMatch(debate -> debateId.equals(debate.getId())));
+    }
+
+    /**
+     * 전체 무효화 (스케줄러에 의한 상태 일괄 변경 등)
+     */
+    public void evictAll() {
+        evictAfterCommit((key, page) -> true);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 무효화 (커밋 전 데이터로 캐시가 다시 채워지는 것을 방지)
+     */
+    private void evictAfterCommit(BiPredicate<ListKey, Page<DebateResponse>> predicate) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            cache.asMap().entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.debate.service;
 
 import com.debate.dto.request.CreateOpinionRequest;
+import com.debate.dto.response.DebateOpinionResponse;
+import com.debate.dto.response.OpinionSummaryResponse;
+import com.debate.dto.response.OpinionTimelineResponse;
 import com.debate.entity.Debate;
 import com.debate.entity.DebateOpinion;
-import com.debate.entity.User;
+import com.debate.entity.DebateOpinion.OpinionSide;
 import com.debate.exception.BadRequestException;
 import com.debate.exception.ResourceNotFoundException;
+import com.debate.exception.ServiceUnavailableException;
 import com.debate.repository.DebateOpinionRepository;
 import com.debate.repository.DebateRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,55 +25,110 @@ import java.util.List;
 public class DebateOpinionService {
     private final DebateOpinionRepository debateOpinionRepository;
     private final DebateRepository debateRepository;
+    private final OpinionTallyService opinionTallyService;
+    private final OpinionTimeSeriesService opinionTimeSeriesService;
+    private final DebateStateCache debateStateCache;
+    private final VoteBuffer voteBuffer;
+    private final VoteBatchWriter voteBatchWriter;
 
-    @Transactional
-    public DebateOpinion createOpinion(CreateOpinionRequest request, Long userId) {
-        Debate debate = debateRepository.findById(request.getDebateId())
-                .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
+    /**
+     * 입장 선택/변경
+     * 토론 상태는 상태 캐시로 검증하고, 의견은 투표 배치 쓰기(잠금 조회 + upsert)로 저장합니다.
+     * 변경 전 입장으로 의견 수/집계를 다시 세지 않고 보정합니다.
+     * 투표 버퍼가 켜져 있으면 버퍼에 넣고 배치 반영이 끝날 때까지 기다리고, 가득 찼거나 꺼져 있으면 1건짜리 배치로 바로 저장합니다.
+     * 버퍼 대기 중 DB 커넥션을 잡고 있지 않도록 이 메서드 자체는 트랜잭션 밖에서 실행합니다. (응답의 의견 ID는 null)
+     * 반영 시점에 토론이 이미 종료되었으면 배치 쓰기가 해당 요청만 반영하지 않으므로 같은 오류로 응답합니다.
+     *
+     * @param request 입장 선택 요청
+     * @param userId 사용자 ID
+     * @return 저장된 입장과 변경 전 입장
+     * @throws ResourceNotFoundException 토론을 찾을 수 없는 경우
+     * @throws BadRequestException 진행 중이 아니거나 토론 기간이 아닌 경우
+     * @throws ServiceUnavailableException 투표 버퍼 반영이 지연되어 요청을 철회한 경우 (저장되지 않음)
+     */
+    public DebateOpinionResponse createOpinion(CreateOpinionRequest request, Long userId) {
+        DebateStateCache.DebateState debate = debateStateCache.get(request.getDebateId());
+        if (debate == null) {
+            throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+        }
 
-        if (debate.getStatus() != Debate.DebateStatus.ACTIVE) {
+        if (debate.status() != Debate.DebateStatus.ACTIVE) {
             throw new BadRequestException("진행 중인 토론에만 입장을 선택할 수 있습니다");
         }
 
-        if (LocalDateTime.now().isBefore(debate.getStartDate()) || LocalDateTime.now().isAfter(debate.getEndDate())) {
+        if (!debate.isWithinPeriod(LocalDateTime.now())) {
             throw new BadRequestException("토론 기간이 아닙니다");
         }
 
-        User user = new User();
-        user.setId(userId);
+        DebateOpinionResponse.DebateOpinionResponseBuilder response = DebateOpinionResponse.builder()
+                .debateId(debate.debateId())
+                .userId(userId)
+                .side(request.getSide())
+                .content(request.getContent())
+                .debateStatus(debate.status());
+
+        VoteBatchWriter.OpinionVote vote = new VoteBatchWriter.OpinionVote(
+                debate.debateId(), debate.categoryId(), userId, request.getSide(), request.getContent());
+        VoteBuffer.Submission<VoteBatchWriter.OpinionResult> buffered = voteBuffer.submitOpinion(vote);
+        // 버퍼를 쓸 수 없으면 같은 배치 쓰기를 1건으로 바로 실행 (변경 전 입장 잠금 조회 + upsert)
+        VoteBatchWriter.OpinionResult result = buffered != null
+                ? buffered.await()
+                : voteBatchWriter.writeOpinions(List.of(vote)).get(0);
+        if (!result.accepted()) {
+            throw new BadRequestException("토론 기간이 아닙니다");
+        }
+        return response.previousSide(result.previousSide()).build();
+    }
 
-        // 이미 입장을 선택했는지 확인
-        debateOpinionRepository.findByDebateAndUser(debate, user).ifPresentOrElse(
-            existingOpinion -> {
-                // 이미 존재하면 입장 변경
-                existingOpinion.setSide(request.getSide());
-                if (request.getContent() != null) {
-                    existingOpinion.setContent(request.getContent());
-                }
-                debateOpinionRepository.save(existingOpinion);
-            },
-            () -> {
-                // 없으면 새로 생성
-                DebateOpinion opinion = DebateOpinion.builder()
-                        .debate(debate)
-                        .user(user)
-                        .side(request.getSide())
-                        .content(request.getContent())
-                        .build();
-                debateOpinionRepository.save(opinion);
-            }
-        );
+    /**
+     * 토론 입장 요약 조회
+     * 입장별 인원 수는 집계 엔진에서, 현재 사용자의 입장은 단일 컬럼 조회로 가져옵니다.
+     *
+     * @param debateId 토론 ID
+     * @param userId 현재 사용자 ID (비로그인은 null)
+     * @return 입장별 인원 수/비율과 현재 사용자의 입장
+     * @throws ResourceNotFoundException 토론을 찾을 수 없는 경우
+     */
+    public OpinionSummaryResponse getSummary(Long debateId, Long userId) {
+        if (!debateRepository.existsById(debateId)) {
+            throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+        }
+        OpinionSide mySide = userId != null
+                ? debateOpinionRepository.findSideByDebateIdAndUserId(debateId, userId).orElse(null)
+                : null;
+        return OpinionSummaryResponse.of(opinionTallyService.getTally(debateId), mySide);
+    }
 
-        // 변경된/생성된 의견 반환
-        return debateOpinionRepository.findByDebateAndUser(debate, user)
-                .orElseThrow(() -> new ResourceNotFoundException("의견 저장 실패"));
+    /**
+     * 토론 입장 추이 조회
+     *
+     * @param debateId 토론 ID
+     * @return 버킷별 누적 입장 분포 (시간 순)
+     * @throws ResourceNotFoundException 토론을 찾을 수 없는 경우
+     */
+    public OpinionTimelineResponse getTimeline(Long debateId) {
+        if (!debateRepository.existsById(debateId)) {
+            throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+        }
+        return opinionTimeSeriesService.getTimeline(debateId);
     }
 
-    public List<DebateOpinion> getOpinionsByDebate(Long debateId) {
+    /**
+     * 토론 의견 목록 조회 (페이징, 입장 필터)
+     *
+     * @param debateId 토론 ID
+     * @param side 입장 필터 (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 의견 목록
+     * @throws ResourceNotFoundException 토론을 찾을 수 없는 경우
+     */
+    public Page<DebateOpinionResponse> getOpinionsByDebate(Long debateId, OpinionSide side, Pageable pageable) {
         Debate debate = debateRepository.findById(debateId)
                 .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
 
-        return debateOpinionRepository.findByDebate(debate);
+        Page<DebateOpinion> opinions = side != null
+                ? debateOpinionRepository.findByDebateAndSide(debate, side, pageable)
+                : debateOpinionRepository.findByDebate(debate, pageable);
+        return opinions.map(DebateOpinionResponse::from);
     }
 }
-
@@ -2,8 +2,11 @@ package com.debate.service;
 
 import com.debate.dto.request.CreateDebateRequest;
 import com.debate.dto.request.UpdateDebateRequest;
+import com.debate.dto.response.CursorSliceResponse;
 import com.debate.dto.response.DebateResponse;
+import com.debate.dto.response.DebateSideCount;
 import com.debate.entity.Debate;
+import com.debate.entity.DebateSummary;
 import com.debate.entity.Category;
 import com.debate.entity.User;
 import com.debate.exception.BadRequestException;
@@ -11,19 +14,26 @@ import com.debate.exception.ResourceNotFoundException;
 import com.debate.exception.UnauthorizedException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.CategoryRepository;
-import com.debate.repository.CommentRepository;
-import com.debate.repository.LikeRepository;
+import com.debate.repository.DebateSummaryRepository;
+import com.debate.util.CursorCodec;
+import com.debate.util.FullTextKeyword;
+import com.debate.util.HtmlExcerpt;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,9 +43,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DebateService {
     private final DebateRepository debateRepository;           // 토론 데이터 접근 리포지토리
+    private final DebateSummaryRepository debateSummaryRepository; // 토론 목록(본문 제외) 조회 리포지토리
     private final CategoryRepository categoryRepository;   // 카테고리 데이터 접근 리포지토리
-    private final LikeRepository likeRepository;           // 좋아요 데이터 접근 리포지토리
-    private final CommentRepository commentRepository;     // 댓글 데이터 접근 리포지토리
+    private final ViewCountService viewCountService;       // 조회수 지연 쓰기 서비스
+    private final DebateListCache debateListCache;         // 토론 목록 캐시
+    private final TrendingService trendingService;         // 트렌딩 점수 엔진
+    private final CommentPageCache commentPageCache;       // 댓글 첫 페이지 캐시
+    private final DebateStateCache debateStateCache;       // 투표 검증용 토론 상태 캐시
+
+    // 커서 페이징 최대 페이지 크기
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    // 정렬 속성명 → 컬럼명 매핑 (네이티브 FULLTEXT 검색 쿼리용)
+    private static final Map<String, String> NATIVE_SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "viewCount", "view_count",
+            "likeCount", "like_count",
+            "commentCount", "comment_count",
+            "id", "id"
+    );
 
     /**
      * 새로운 토론 생성
@@ -72,6 +98,7 @@ public class DebateService {
                 .category(category)                            // 카테고리
                 .title(request.getTitle())                     // 제목
                 .content(request.getContent())                 // 내용
+                .excerpt(HtmlExcerpt.of(request.getContent())) // 목록용 미리보기
                 .startDate(request.getStartDate())            // 시작일시
                 .endDate(request.getEndDate())                // 종료일시
                 .status(Debate.DebateStatus.SCHEDULED)            // 상태: 예정
@@ -81,19 +108,21 @@ public class DebateService {
 
         // 토론 저장
         debate = debateRepository.save(debate);
+        debateListCache.evictCategories(category.getId());
         
         // 응답 DTO 생성 (좋아요 수, 댓글 수는 0으로 초기화)
-        return DebateResponse.from(debate, 0L, 0L);
+        return DebateResponse.from(debate);
     }
 
     /**
      * 토론 ID로 토론 상세 정보 조회
-     * 조회 시 조회수가 자동으로 증가합니다.
+     * 조회 시 조회수가 자동으로 증가합니다. (ViewCountService에 누적 후 주기적으로 반영)
      * 
      * @param id 토론 ID
      * @return 토론 상세 정보 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 토론을 찾을 수 없거나 숨김 처리된 경우
      */
+    @Transactional(readOnly = true)
     public DebateResponse getDebateById(Long id) {
         // 토론 조회
         Debate debate = debateRepository.findById(id)
@@ -104,18 +133,52 @@ public class DebateService {
             throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
         }
 
-        // 조회수 증가
-        debate.setViewCount(debate.getViewCount() + 1);
-        debateRepository.save(debate);
+        // 조회수 증가 (메모리에 누적, DB 쓰기 없음)
+        viewCountService.increment(id);
+        trendingService.record(debate, TrendingService.Activity.VIEW);
 
-        // 좋아요 수 조회
-        Long likeCount = likeRepository.countByDebate(debate);
-        
-        // 댓글 수 조회 (숨김 처리되지 않은 댓글만)
-        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
+        // 응답 DTO 생성 (좋아요 수, 댓글 수는 토론 행의 카운터 사용)
+        DebateResponse response = DebateResponse.from(debate).withSideCounts(findSideCounts(List.of(debate.getId())).get(debate.getId()));
+        // 아직 반영되지 않은 조회수를 더해 응답
+        response.setViewCount((int) (debate.getViewCount() + viewCountService.getPending(id)));
+        return response;
+    }
+
+    /**
+     * 토론 목록 페이지를 응답 DTO 페이지로 변환
+     * 페이지에 포함된 토론들의 입장별 의견 수를 한 번의 집계 쿼리로 조회하여 채웁니다.
+     *
+     * @param debates 토론 요약 엔티티 페이지
+     * @return 토론 응답 DTO 페이지 (본문 대신 미리보기 포함)
+     */
+    public Page<DebateResponse> toResponsePage(Page<DebateSummary> debates) {
+        return new PageImpl<>(toResponses(debates.getContent()), debates.getPageable(), debates.getTotalElements());
+    }
+
+    /**
+     * 토론 목록을 응답 DTO 목록으로 변환 (입장별 의견 수 일괄 조회 포함)
+     */
+    private List<DebateResponse> toResponses(List<DebateSummary> debates) {
+        if (debates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, DebateSideCount> sideCounts = findSideCounts(debates.stream()
+                .map(DebateSummary::getId)
+                .collect(Collectors.toList()));
+
+        return debates.stream()
+                .map(debate -> DebateResponse.from(debate).withSideCounts(sideCounts.get(debate.getId())))
+                .collect(Collectors.toList());
+    }
 
-        // 응답 DTO 생성
-        return DebateResponse.from(debate, likeCount, commentCount);
+    /**
+     * 토론 ID 목록의 입장별 의견 수를 일괄 조회하여 토론 ID별 맵으로 반환
+     */
+    private Map<Long, DebateSideCount> findSideCounts(List<Long> debateIds) {
+        return debateRepository.findSideCountsByDebateIds(debateIds)
+                .stream()
+                .collect(Collectors.toMap(DebateSideCount::getDebateId, Function.identity()));
     }
 
     /**
@@ -123,68 +186,48 @@ public class DebateService {
      * 숨김 처리되지 않은 토론만 조회합니다.
      * 
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, trending)
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @return 토론 목록 (좋아요 수, 댓글 수 포함)
      */
     public Page<DebateResponse> getAllDebates(Pageable pageable, String sort, Debate.DebateStatus status) {
-        // 정렬 기준에 따라 Pageable 수정
-        Pageable sortedPageable = getSortedPageable(pageable, sort);
-        
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Debate> allDebates;
-            if (status != null) {
-                allDebates = debateRepository.findByIsHiddenFalseAndStatus(status, Sort.by(Sort.Direction.DESC, "createdAt"));
-            } else {
-                allDebates = debateRepository.findByIsHiddenFalse(Sort.by(Sort.Direction.DESC, "createdAt"));
-            }
-            
-            List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allDebateResponses.size());
-            List<DebateResponse> pagedDebates = allDebateResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedDebates, pageable, allDebateResponses.size());
-        } else {
-            // latest, views는 DB에서 정렬 가능
-            Page<Debate> debatePage;
+        if ("trending".equals(sort)) {
+            return getTrendingDebates(null, pageable, status);
+        }
+
+        DebateListCache.ListKey key = new DebateListCache.ListKey(
+                null, status, sort, pageable.getPageNumber(), pageable.getPageSize());
+
+        // 앞쪽 페이지는 목록 캐시에서 제공
+        return debateListCache.get(key, () -> {
+            // 정렬 기준에 따라 Pageable 수정 (popular, comments도 카운터 컬럼으로 DB에서 정렬)
+            Pageable sortedPageable = getSortedPageable(pageable, sort);
+
+            Page<DebateSummary> debatePage;
             if (status != null) {
-                debatePage = debateRepository.findByIsHiddenFalseAndStatus(status, sortedPageable);
+                debatePage = debateSummaryRepository.findByIsHiddenFalseAndStatus(status, sortedPageable);
             } else {
-                debatePage = debateRepository.findByIsHiddenFalse(sortedPageable);
+                debatePage = debateSummaryRepository.findByIsHiddenFalse(sortedPageable);
             }
-            
-            return debatePage.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
-        }
+
+            return toResponsePage(debatePage);
+        });
     }
     
+    /**
+     * 트렌딩 순 토론 목록 조회
+     * 순위는 TrendingService의 메모리 정렬 구조에서 가져오며, 집계 쿼리 없이 해당 토론만 ID로 조회합니다.
+     * 전체 개수는 순위에 포함된 토론 수 기준의 근사값입니다.
+     */
+    private Page<DebateResponse> getTrendingDebates(Long categoryId, Pageable pageable, Debate.DebateStatus status) {
+        List<DebateSummary> debates = trendingService.findTrending(categoryId, status, pageable.getOffset(), pageable.getPageSize());
+        long total = Math.max(trendingService.countTracked(categoryId), pageable.getOffset() + debates.size());
+        return new PageImpl<>(toResponses(debates), pageable, total);
+    }
+
     /**
      * 정렬 기준에 따라 Pageable 생성
+     * 동일 값일 경우 최신순, 그다음 ID 역순으로 정렬하여 페이지 간 순서를 고정합니다.
      * 
      * @param pageable 원본 Pageable
      * @param sort 정렬 기준
@@ -201,97 +244,93 @@ public class DebateService {
             case "views":
                 property = "viewCount";
                 break;
+            case "popular":
+                property = "likeCount";
+                break;
+            case "comments":
+                property = "commentCount";
+                break;
             default:
                 property = "createdAt";
         }
         
-        return org.springframework.data.domain.PageRequest.of(
+        Sort order = Sort.by(direction, property);
+        if (!"createdAt".equals(property)) {
+            order = order.and(Sort.by(direction, "createdAt"));
+        }
+        order = order.and(Sort.by(direction, "id"));
+
+        return PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
-                Sort.by(direction, property)
+                order
         );
     }
 
+    /**
+     * 엔티티 속성 기준 정렬을 네이티브 쿼리용 컬럼명 기준 정렬로 변환
+     *
+     * @param pageable 엔티티 속성 기준으로 정렬된 Pageable
+     * @return 컬럼명 기준으로 정렬된 Pageable
+     */
+    private Pageable toNativePageable(Pageable pageable) {
+        Sort nativeSort = Sort.by(pageable.getSort().stream()
+                .map(order -> new Sort.Order(order.getDirection(), NATIVE_SORT_COLUMNS.getOrDefault(order.getProperty(), order.getProperty())))
+                .collect(Collectors.toList()));
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), nativeSort);
+    }
+
     /**
      * 카테고리별 토론 목록 조회 (페이징)
      * 
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, trending)
      * @param status 토론 상태 (선택적: SCHEDULED, ACTIVE, ENDED)
      * @return 해당 카테고리의 토론 목록 (좋아요 수, 댓글 수 포함)
      * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
      */
     public Page<DebateResponse> getDebatesByCategory(Long categoryId, Pageable pageable, String sort, Debate.DebateStatus status) {
-        // 카테고리 조회 및 검증
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
-
-        // 정렬 기준에 따라 Pageable 수정
-        Pageable sortedPageable = getSortedPageable(pageable, sort);
-        
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Debate> allDebates;
-            if (status != null) {
-                allDebates = debateRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, Sort.by(Sort.Direction.DESC, "createdAt"));
-            } else {
-                allDebates = debateRepository.findByCategoryAndIsHiddenFalse(category, Sort.by(Sort.Direction.DESC, "createdAt"));
-            }
-            
-            List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+        if ("trending".equals(sort)) {
+            if (!categoryRepository.existsById(categoryId)) {
+                throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다");
             }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allDebateResponses.size());
-            List<DebateResponse> pagedDebates = allDebateResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedDebates, pageable, allDebateResponses.size());
-        } else {
-            // latest, views는 DB에서 정렬 가능
-            Page<Debate> debatePage;
+            return getTrendingDebates(categoryId, pageable, status);
+        }
+
+        DebateListCache.ListKey key = new DebateListCache.ListKey(
+                categoryId, status, sort, pageable.getPageNumber(), pageable.getPageSize());
+
+        // 앞쪽 페이지는 목록 캐시에서 제공
+        return debateListCache.get(key, () -> {
+            // 카테고리 조회 및 검증
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
+
+            // 정렬 기준에 따라 Pageable 수정 (popular, comments도 카운터 컬럼으로 DB에서 정렬)
+            Pageable sortedPageable = getSortedPageable(pageable, sort);
+
+            Page<DebateSummary> debatePage;
             if (status != null) {
-                debatePage = debateRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, sortedPageable);
+                debatePage = debateSummaryRepository.findByCategoryAndIsHiddenFalseAndStatus(category, status, sortedPageable);
             } else {
-                debatePage = debateRepository.findByCategoryAndIsHiddenFalse(category, sortedPageable);
+                debatePage = debateSummaryRepository.findByCategoryAndIsHiddenFalse(category, sortedPageable);
             }
-            
-            return debatePage.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
-        }
+
+            return toResponsePage(debatePage);
+        });
     }
 
     /**
      * 키워드로 토론 검색 (페이징)
-     * 제목과 내용에서 키워드를 검색합니다.
+     * 제목과 내용에서 키워드를 FULLTEXT(ngram) 인덱스로 검색합니다.
      * 카테고리, 상태 필터를 지원합니다.
      * 
      * @param keyword 검색 키워드
      * @param categoryId 카테고리 ID (선택적)
      * @param status 토론 상태 (선택적)
      * @param pageable 페이징 정보
-     * @param sort 정렬 기준 (latest, popular, comments, views)
+     * @param sort 정렬 기준 (latest, popular, comments, views, relevance)
      * @return 검색된 토론 목록 (좋아요 수, 댓글 수 포함)
      */
     public Page<DebateResponse> searchDebates(String keyword, Long categoryId, Debate.DebateStatus status, Pageable pageable, String sort) {
@@ -302,60 +341,169 @@ public class DebateService {
                     .orElse(null); // 카테고리를 찾을 수 없으면 null
         }
         
-        // 정렬 기준이 popular 또는 comments인 경우, 모든 데이터를 가져와서 정렬 후 페이징
-        if ("popular".equals(sort) || "comments".equals(sort)) {
-            // 모든 데이터 가져오기 (페이징 없이)
-            List<Debate> allDebates = debateRepository.searchByKeywordWithoutPaging(
-                    keyword != null && !keyword.trim().isEmpty() ? keyword : null,
-                    category,
-                    status,
-                    Sort.by(Sort.Direction.DESC, "createdAt")
-            );
-            
-            List<DebateResponse> allDebateResponses = allDebates.stream()
-                    .map(debate -> {
-                        Long likeCount = likeRepository.countByDebate(debate);
-                        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                        return DebateResponse.from(debate, likeCount, commentCount);
-                    })
-                    .collect(Collectors.toList());
-            
-            // 정렬 기준에 따라 정렬
-            if ("popular".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getLikeCount() != null ? d.getLikeCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
-            } else if ("comments".equals(sort)) {
-                allDebateResponses.sort(Comparator
-                        .comparing((DebateResponse d) -> d.getCommentCount() != null ? d.getCommentCount() : 0L, Comparator.reverseOrder())
-                        .thenComparing((DebateResponse d) -> d.getCreatedAt() != null ? d.getCreatedAt() : LocalDateTime.MIN, Comparator.reverseOrder()));
+        // FULLTEXT(ngram) 인덱스로 검색 가능한 검색어인 경우
+        String fullTextQuery = FullTextKeyword.toBooleanQuery(keyword);
+        if (fullTextQuery != null) {
+            Long searchCategoryId = category != null ? category.getId() : null;
+            String searchStatus = status != null ? status.name() : null;
+            Page<DebateSummary> searchResults;
+            if ("relevance".equals(sort)) {
+                // 관련도 순 정렬 (쿼리에서 ORDER BY 지정)
+                searchResults = debateSummaryRepository.searchByFullTextOrderByRelevance(
+                        fullTextQuery, searchCategoryId, searchStatus,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+            } else {
+                searchResults = debateSummaryRepository.searchByFullText(
+                        fullTextQuery, searchCategoryId, searchStatus,
+                        toNativePageable(getSortedPageable(pageable, sort)));
             }
-            
-            // 페이징 적용
-            int start = (int) pageable.getOffset();
-            int end = Math.min((start + pageable.getPageSize()), allDebateResponses.size());
-            List<DebateResponse> pagedDebates = allDebateResponses.subList(start, end);
-            
-            return new PageImpl<>(pagedDebates, pageable, allDebateResponses.size());
+            return toResponsePage(searchResults);
+        }
+
+        // 검색어가 없거나 너무 짧은 경우 LIKE 검색
+        // 정렬 기준에 따라 Pageable 수정 (popular, comments도 카운터 컬럼으로 DB에서 정렬)
+        Pageable sortedPageable = getSortedPageable(pageable, sort);
+
+        // 검색 실행
+        Page<DebateSummary> searchResults = debateSummaryRepository.searchByKeyword(
+                keyword != null && !keyword.trim().isEmpty() ? keyword : null,
+                category,
+                status,
+                sortedPageable
+        );
+
+        return toResponsePage(searchResults);
+    }
+
+    /**
+     * 전체 토론 목록 커서 페이징 조회
+     * COUNT 쿼리와 OFFSET 없이 (정렬값, ID) 키셋 조건으로 다음 페이지를 조회합니다.
+     *
+     * @param status 토론 상태 (선택적)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 토론 목록과 다음 페이지 커서
+     */
+    public CursorSliceResponse<DebateResponse> scrollDebates(Debate.DebateStatus status, String sort, String cursor, int size) {
+        return scroll(null, null, status, sort, cursor, size);
+    }
+
+    /**
+     * 카테고리별 토론 목록 커서 페이징 조회
+     *
+     * @param categoryId 카테고리 ID
+     * @param status 토론 상태 (선택적)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 토론 목록과 다음 페이지 커서
+     * @throws ResourceNotFoundException 카테고리를 찾을 수 없는 경우
+     */
+    public CursorSliceResponse<DebateResponse> scrollDebatesByCategory(Long categoryId, Debate.DebateStatus status,
+                                                                       String sort, String cursor, int size) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
+        return scroll(null, category, status, sort, cursor, size);
+    }
+
+    /**
+     * 키워드 검색 결과 커서 페이징 조회
+     *
+     * @param keyword 검색 키워드
+     * @param categoryId 카테고리 ID (선택적)
+     * @param status 토론 상태 (선택적)
+     * @param sort 정렬 기준 (latest, views)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 검색된 토론 목록과 다음 페이지 커서
+     */
+    public CursorSliceResponse<DebateResponse> scrollSearchDebates(String keyword, Long categoryId, Debate.DebateStatus status,
+                                                                   String sort, String cursor, int size) {
+        Category category = null;
+        if (categoryId != null) {
+            category = categoryRepository.findById(categoryId)
+                    .orElse(null); // 카테고리를 찾을 수 없으면 null
+        }
+        return scroll(keyword, category, status, sort, cursor, size);
+    }
+
+    /**
+     * 커서 페이징 공통 처리
+     */
+    private CursorSliceResponse<DebateResponse> scroll(String keyword, Category category, Debate.DebateStatus status,
+                                                       String sort, String cursor, int size) {
+        if (!"latest".equals(sort) && !"views".equals(sort)) {
+            throw new BadRequestException("커서 페이징은 latest, views 정렬만 지원합니다");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize);
+
+        // 커서 복원 (정렬값, ID)
+        String[] position = decodeCursor(cursor, sort);
+        Long cursorId = position != null ? Long.valueOf(position[2]) : null;
+
+        String fullTextQuery = FullTextKeyword.toBooleanQuery(keyword);
+        String likeKeyword = keyword != null && !keyword.trim().isEmpty() ? keyword : null;
+        Long categoryId = category != null ? category.getId() : null;
+
+        Slice<DebateSummary> slice;
+        if ("latest".equals(sort)) {
+            LocalDateTime cursorCreatedAt = position != null ? LocalDateTime.parse(position[1]) : null;
+            slice = fullTextQuery != null
+                    ? debateSummaryRepository.scrollLatestByFullText(fullTextQuery, categoryId, status != null ? status.name() : null,
+                            cursorCreatedAt, cursorId, limit)
+                    : debateSummaryRepository.scrollLatest(likeKeyword, category, status, cursorCreatedAt, cursorId, limit);
         } else {
-            // latest, views는 DB에서 정렬 가능
-            // 정렬 기준에 따라 Pageable 수정
-            Pageable sortedPageable = getSortedPageable(pageable, sort);
-            
-            // 검색 실행
-            Page<Debate> searchResults = debateRepository.searchByKeyword(
-                    keyword != null && !keyword.trim().isEmpty() ? keyword : null,
-                    category,
-                    status,
-                    sortedPageable
-            );
-            
-            return searchResults.map(debate -> {
-                Long likeCount = likeRepository.countByDebate(debate);
-                Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                return DebateResponse.from(debate, likeCount, commentCount);
-            });
+            Integer cursorViewCount = position != null ? Integer.valueOf(position[1]) : null;
+            slice = fullTextQuery != null
+                    ? debateSummaryRepository.scrollByViewsByFullText(fullTextQuery, categoryId, status != null ? status.name() : null,
+                            cursorViewCount, cursorId, limit)
+                    : debateSummaryRepository.scrollByViews(likeKeyword, category, status, cursorViewCount, cursorId, limit);
         }
+
+        List<DebateSummary> debates = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !debates.isEmpty()) {
+            DebateSummary last = debates.get(debates.size() - 1);
+            nextCursor = CursorCodec.encode(sort, "latest".equals(sort) ? last.getCreatedAt().toString() : String.valueOf(last.getViewCount()),
+                    String.valueOf(last.getId()));
+        }
+
+        return CursorSliceResponse.<DebateResponse>builder()
+                .content(toResponses(debates))
+                .size(pageSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 커서 디코딩 ("정렬|정렬값|ID")
+     *
+     * @return [정렬, 정렬값, ID] (커서가 없으면 null)
+     * @throws BadRequestException 커서 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    private String[] decodeCursor(String cursor, String sort) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (parts == null) {
+            return null;
+        }
+        try {
+            // 정렬값과 ID 형식 검증
+            if ("latest".equals(sort)) {
+                LocalDateTime.parse(parts[1]);
+            } else {
+                Integer.parseInt(parts[1]);
+            }
+            Long.parseLong(parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+        if (!parts[0].equals(sort)) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+        return parts;
     }
 
     /**
@@ -379,6 +527,40 @@ public class DebateService {
                 Debate.DebateStatus.ACTIVE, now);
         activeDebates.forEach(debate -> debate.setStatus(Debate.DebateStatus.ENDED));
         debateRepository.saveAll(activeDebates);
+
+        // 상태가 바뀐 토론이 있으면 목록 캐시와 해당 토론의 상태 캐시 무효화
+        if (!scheduledDebates.isEmpty() || !activeDebates.isEmpty()) {
+            debateListCache.evictAll();
+            List<Long> changedIds = new ArrayList<>();
+            scheduledDebates.forEach(debate -> changedIds.add(debate.getId()));
+            activeDebates.forEach(debate -> changedIds.add(debate.getId()));
+            debateStateCache.evict(changedIds);
+        }
+    }
+
+    /**
+     * 좋아요/댓글/의견 카운터 재계산
+     * 원본 테이블(likes, comments, debate_opinion)을 기준으로 비정규화 카운터의 드리프트를 보정합니다.
+     *
+     * @return 갱신된 토론 수
+     */
+    @Transactional
+    public int reconcileEngagementCounts() {
+        return debateRepository.recalculateEngagementCounts();
+    }
+
+    /**
+     * 미리보기가 없는 기존 토론의 미리보기 생성 (한 묶음)
+     * 수정 일시가 바뀌지 않도록 엔티티 저장 대신 미리보기 컬럼만 갱신합니다.
+     *
+     * @param batchSize 한 번에 처리할 토론 수
+     * @return 처리한 토론 수 (0이면 보정 완료)
+     */
+    @Transactional
+    public int backfillExcerpts(int batchSize) {
+        List<DebateRepository.ContentRow> rows = debateRepository.findContentWithoutExcerpt(PageRequest.of(0, batchSize));
+        rows.forEach(row -> debateRepository.updateExcerpt(row.getId(), HtmlExcerpt.of(row.getContent())));
+        return rows.size();
     }
 
     /**
@@ -422,9 +604,11 @@ public class DebateService {
         // 내용 수정
         if (request.getContent() != null) {
             debate.setContent(request.getContent());
+            debate.setExcerpt(HtmlExcerpt.of(request.getContent()));
         }
 
         // 카테고리 수정
+        Long previousCategoryId = debate.getCategory().getId();
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다"));
@@ -454,15 +638,11 @@ public class DebateService {
 
         // 토론 저장
         debate = debateRepository.save(debate);
+        debateListCache.evictCategories(previousCategoryId, debate.getCategory().getId());
+        debateStateCache.evict(List.of(debate.getId()));
 
-        // 좋아요 수 조회
-        Long likeCount = likeRepository.countByDebate(debate);
-        
-        // 댓글 수 조회 (숨김 처리되지 않은 댓글만)
-        Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-
-        // 응답 DTO 생성
-        return DebateResponse.from(debate, likeCount, commentCount);
+        // 응답 DTO 생성 (좋아요 수, 댓글 수는 토론 행의 카운터 사용)
+        return DebateResponse.from(debate);
     }
 
     /**
@@ -492,7 +672,12 @@ public class DebateService {
         }
 
         // 토론 삭제
+        Long categoryId = debate.getCategory().getId();
         debateRepository.delete(debate);
+        debateListCache.evictCategories(categoryId);
+        trendingService.remove(id);
+        commentPageCache.evictDebate(id);
+        debateStateCache.evict(List.of(id));
     }
 }
 
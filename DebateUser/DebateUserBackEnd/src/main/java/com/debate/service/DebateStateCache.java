@@ -0,0 +1,107 @@
+package com.debate.service;
+
+import com.debate.entity.Debate;
+import com.debate.repository.DebateRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 토론 상태 캐시
+ * 투표/채팅 등 빈번한 쓰기 요청의 검증에 필요한 토론 상태(상태/기간/카테고리/숨김 여부)만 메모리에 보관합니다.
+ * 기간 판정은 요청 시각으로 하므로, 상태 값이 잠시 늦게 반영되더라도 기간 밖의 투표는 허용되지 않습니다.
+ * 사용자 서버의 변경은 커밋 직후, 관리자 서버의 변경은 캐시 무효화 테이블을 통해 무효화됩니다.
+ */
+@Component
+public class DebateStateCache {
+    private final DebateRepository debateRepository;
+
+    private final LoadingCache<Long, DebateState> cache;
+
+    public DebateStateCache(DebateRepository debateRepository, MeterRegistry meterRegistry) {
+        this.debateRepository = debateRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
+                .build(this::loadState);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "debateState");
+    }
+
+    /**
+     * 토론 상태 스냅샷
+     *
+     * @param debateId 토론 ID
+     * @param categoryId 카테고리 ID
+     * @param status 토론 상태
+     * @param startDate 시작 일시
+     * @param endDate 종료 일시
+     * @param hidden 숨김 여부
+     */
+    public record DebateState(Long debateId, Long categoryId, Debate.DebateStatus status,
+                              LocalDateTime startDate, LocalDateTime endDate, boolean hidden) {
+
+        /**
+         * 주어진 시각이 토론 기간 안인지 확인
+         */
+        public boolean isWithinPeriod(LocalDateTime now) {
+            return !now.isBefore(startDate) && !now.isAfter(endDate);
+        }
+    }
+
+    /**
+     * 토론 상태 조회
+     *
+     * @param debateId 토론 ID
+     * @return 토론 상태 (토론이 없으면 null)
+     */
+    public DebateState get(Long debateId) {
+        return cache.get(debateId);
+    }
+
+    /**
+     * 토론 수정/삭제/상태 변경 시 무효화 (커밋 후)
+     *
+     * @param debateIds 변경된 토론 ID
+     */
+    public void evict(Collection<Long> debateIds) {
+        afterCommit(() -> cache.invalidateAll(debateIds));
+    }
+
+    /**
+     * 다른 서버(관리자)의 변경으로 인한 무효화 (트랜잭션 밖에서 즉시 적용)
+     *
+     * @param debateId 토론 ID
+     */
+    public void evictNow(Long debateId) {
+        cache.invalidate(debateId);
+    }
+
+    private DebateState loadState(Long debateId) {
+        return debateRepository.findStateById(debateId)
+                .map(row -> new DebateState(row.getId(), row.getCategoryId(), row.getStatus(),
+                        row.getStartDate(), row.getEndDate(), Boolean.TRUE.equals(row.getHidden())))
+                .orElse(null);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
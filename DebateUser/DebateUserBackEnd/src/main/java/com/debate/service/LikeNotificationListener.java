@@ -0,0 +1,94 @@
+package com.debate.service;
+
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.debate.entity.User;
+import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateRepository;
+import com.debate.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요 후속 처리 리스너
+ * 좋아요 트랜잭션이 커밋된 뒤 별도 스레드에서 알림 생성과 트렌딩 점수 반영을 처리하여,
+ * 좋아요 요청의 응답 시간이 알림 저장에 영향을 받지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeNotificationListener {
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final TrendingService trendingService;
+
+    /**
+     * 토론 좋아요 이벤트 (새로 좋아요가 추가된 경우에만 발행)
+     */
+    public record DebateLiked(Long debateId, Long userId) {
+    }
+
+    /**
+     * 댓글 좋아요 이벤트 (새로 좋아요가 추가된 경우에만 발행)
+     */
+    public record CommentLiked(Long commentId, Long userId) {
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onDebateLiked(DebateLiked event) {
+        try {
+            Debate debate = debateRepository.findById(event.debateId()).orElse(null);
+            if (debate == null) {
+                return;
+            }
+            trendingService.record(debate, TrendingService.Activity.LIKE);
+
+            // 알림 생성 (본인이 아닐 경우)
+            if (!debate.getUser().getId().equals(event.userId())) {
+                User user = userRepository.getReferenceById(event.userId());
+                notificationService.createNotification(
+                        debate.getUser(),
+                        user.getNickname() + "님이 회원님의 토론을 좋아합니다: " + debate.getTitle(),
+                        "LIKE",
+                        "/debate/" + debate.getId()
+                );
+            }
+        } catch (Exception e) {
+            log.warn("토론 좋아요 알림 생성 실패 - 토론: {}, 사용자: {}", event.debateId(), event.userId(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCommentLiked(CommentLiked event) {
+        try {
+            Comment comment = commentRepository.findById(event.commentId()).orElse(null);
+            if (comment == null) {
+                return;
+            }
+
+            // 좋아요 알림 생성 (본인이 아닐 경우)
+            if (!comment.getUser().getId().equals(event.userId())) {
+                User user = userRepository.getReferenceById(event.userId());
+                notificationService.createNotification(
+                        comment.getUser(),
+                        user.getNickname() + "님이 댓글을 좋아합니다.",
+                        "LIKE",
+                        "/debate/" + comment.getDebate().getId()
+                );
+            }
+        } catch (Exception e) {
+            log.warn("댓글 좋아요 알림 생성 실패 - 댓글: {}, 사용자: {}", event.commentId(), event.userId(), e);
+        }
+    }
+}
@@ -1,60 +1,89 @@
 package com.debate.service;
 
-import com.debate.entity.Debate;
-import com.debate.entity.Like;
-import com.debate.entity.User;
+import com.debate.dto.response.LikeToggleResponse;
 import com.debate.exception.ResourceNotFoundException;
+import com.debate.exception.ServiceUnavailableException;
 import com.debate.repository.DebateRepository;
 import com.debate.repository.LikeRepository;
-import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
     private final DebateRepository debateRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
-
-    @Transactional
-    public void toggleLike(Long debateId, Long userId) {
-        likeRepository.findByDebateIdAndUserId(debateId, userId)
-                .ifPresentOrElse(
-                        likeRepository::delete,
-                        () -> {
-                            Debate debate = debateRepository.findById(debateId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("토론을 찾을 수 없습니다"));
-                            User user = userRepository.getReferenceById(userId);
-                            
-                            Like like = Like.builder()
-                                    .debate(debate)
-                                    .user(user)
-                                    .build();
-                            likeRepository.save(like);
-
-                            // 알림 생성 로직 (본인이 아닐 경우)
-                            if (!debate.getUser().getId().equals(userId)) {
-                                try {
-                                    notificationService.createNotification(
-                                            debate.getUser(),
-                                            user.getNickname() + "님이 회원님의 토론을 좋아합니다: " + debate.getTitle(),
-                                            "LIKE",
-                                            "/debate/" + debate.getId()
-                                    );
-                                } catch (Exception e) {
-                                    System.err.println("알림 생성 실패: " + e.getMessage());
-                                }
-                            }
-                        }
-                );
+    private final DebateListCache debateListCache;
+    private final LikedSetCache likedSetCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DebateStateCache debateStateCache;
+    private final VoteBuffer voteBuffer;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 토론 좋아요 처리
+     * 조회 없이 단일 DELETE / INSERT IGNORE 문의 영향 행 수로 상태를 판정하므로,
+     * 중복 클릭이나 동시 요청에서도 유니크 제약 예외 없이 처리됩니다.
+     * 알림 생성과 트렌딩 반영은 커밋 후 비동기로 처리합니다.
+     * 투표 버퍼가 켜져 있으면 원하는 최종 상태(반전 요청은 좋아요 집합 캐시 기준)를 버퍼에 넣고 배치 반영을 기다립니다.
+     *
+     * @param debateId 토론 ID
+     * @param userId 사용자 ID
+     * @param liked 원하는 좋아요 상태 (null이면 현재 상태를 반전, 지정하면 같은 요청을 반복해도 결과가 같음)
+     * @return 처리 후 좋아요 상태와 좋아요 수 변화량
+     * @throws ResourceNotFoundException 토론을 찾을 수 없는 경우
+     * @throws ServiceUnavailableException 투표 버퍼 반영이 지연되어 요청을 철회한 경우 (저장되지 않음)
+     */
+    public LikeToggleResponse toggleLike(Long debateId, Long userId, Boolean liked) {
+        if (voteBuffer.isEnabled()) {
+            if (debateStateCache.get(debateId) == null) {
+                throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+            }
+            boolean desired = liked != null ? liked : !likedSetCache.isDebateLiked(userId, debateId);
+            VoteBuffer.Submission<LikeToggleResponse> buffered =
+                    voteBuffer.submitLike(new VoteBatchWriter.LikeVote(debateId, userId, desired));
+            if (buffered != null) {
+                return buffered.await();
+            }
+        }
+        return transactionTemplate.execute(status -> toggleLikeDirect(debateId, userId, liked));
+    }
+
+    private LikeToggleResponse toggleLikeDirect(Long debateId, Long userId, Boolean liked) {
+        // 반전 요청이거나 취소 요청이면 먼저 삭제 시도
+        if (!Boolean.TRUE.equals(liked)) {
+            int deleted = likeRepository.deleteByDebateIdAndUserId(debateId, userId);
+            if (deleted > 0 || Boolean.FALSE.equals(liked)) {
+                if (deleted > 0) {
+                    debateRepository.adjustLikeCount(debateId, -deleted);
+                    debateListCache.evictDebate(debateId, "popular");
+                    likedSetCache.evictUser(userId);
+                }
+                return LikeToggleResponse.builder().liked(false).delta(-deleted).build();
+            }
+        }
+
+        int inserted = likeRepository.insertIgnore(debateId, userId);
+        if (inserted == 0) {
+            // 이미 좋아요 상태(동시 요청)이거나 토론이 없는 경우
+            if (!debateRepository.existsById(debateId)) {
+                throw new ResourceNotFoundException("토론을 찾을 수 없습니다");
+            }
+            return LikeToggleResponse.builder().liked(true).delta(0).build();
+        }
+
+        debateRepository.adjustLikeCount(debateId, 1);
+        debateListCache.evictDebate(debateId, "popular");
+        likedSetCache.evictUser(userId);
+        eventPublisher.publishEvent(new LikeNotificationListener.DebateLiked(debateId, userId));
+        return LikeToggleResponse.builder().liked(true).delta(1).build();
     }
 
     public boolean isLiked(Long debateId, Long userId) {
         System.out.println("LikeService.isLiked - DebateID: " + debateId + ", UserID: " + userId);
-        boolean exists = likeRepository.existsByDebateIdAndUserId(debateId, userId);
+        boolean exists = likedSetCache.isDebateLiked(userId, debateId);
         System.out.println("LikeService.isLiked - Exists: " + exists);
         return exists;
     }
@@ -0,0 +1,136 @@
+package com.debate.service;
+
+import com.debate.repository.CommentLikeRepository;
+import com.debate.repository.LikeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요 집합 캐시
+ * 사용자가 좋아요한 토론 ID, 댓글 ID를 압축 비트맵(Roaring)으로 보관하여
+ * "이 사용자가 X를 좋아요했는가"를 페이지 단위로 메모리에서 판정합니다.
+ * 첫 조회 시 DB에서 적재하고(지연 적재), 좋아요 토글은 커밋 후 해당 사용자 항목을 무효화하여 다음 조회에서 다시 적재합니다.
+ * (항목을 직접 고치면 커밋 전 스냅샷으로 적재 중이던 집합이 나중에 저장되어 토글이 유실될 수 있음)
+ * 오래 조회되지 않은 사용자부터 크기 제한에 따라 제거되고, 계속 조회되는 사용자도 적재 후 1시간이 지나면 다시 적재하며,
+ * 통계는 cache=likedSet 메트릭으로 노출됩니다.
+ */
+@Component
+public class LikedSetCache {
+    private final LikeRepository likeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+
+    private final Cache<Long, LikedSet> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .expireAfterWrite(Duration.ofHours(1))
+            .recordStats()
+            .build();
+
+    public LikedSetCache(LikeRepository likeRepository, CommentLikeRepository commentLikeRepository,
+                         MeterRegistry meterRegistry) {
+        this.likeRepository = likeRepository;
+        this.commentLikeRepository = commentLikeRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "likedSet");
+    }
+
+    /**
+     * 한 사용자의 좋아요 집합 (비트맵은 스레드 안전하지 않으므로 동기화하여 접근)
+     */
+    private static final class LikedSet {
+        private final Roaring64Bitmap debateIds = new Roaring64Bitmap();
+        private final Roaring64Bitmap commentIds = new Roaring64Bitmap();
+
+        synchronized boolean containsDebate(long debateId) {
+            return debateIds.contains(debateId);
+        }
+
+        synchronized Set<Long> filterComments(Collection<Long> candidates) {
+            Set<Long> liked = new HashSet<>();
+            for (Long commentId : candidates) {
+                if (commentIds.contains(commentId)) {
+                    liked.add(commentId);
+                }
+            }
+            return liked;
+        }
+
+        synchronized void removeComment(long commentId) {
+            commentIds.removeLong(commentId);
+        }
+    }
+
+    /**
+     * 사용자가 토론을 좋아요했는지 확인
+     */
+    public boolean isDebateLiked(Long userId, Long debateId) {
+        return load(userId).containsDebate(debateId);
+    }
+
+    /**
+     * 주어진 댓글 중 사용자가 좋아요한 댓글 ID 조회
+     */
+    public Set<Long> findLikedCommentIds(Long userId, Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return load(userId).filterComments(commentIds);
+    }
+
+    /**
+     * 토론/댓글 좋아요 변경 시 사용자 항목 무효화 (커밋 후)
+     * 적재 중인 항목이 있으면 적재가 끝난 뒤 제거되므로, 커밋 전 상태로 적재된 집합이 남지 않습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 댓글의 좋아요가 모두 삭제된 경우(댓글 삭제) 모든 사용자 집합에서 제거
+     */
+    public void removeComment(Long commentId) {
+        afterCommit(() -> cache.asMap().values().forEach(set -> set.removeComment(commentId)));
+    }
+
+    /**
+     * 사용자 좋아요 집합 조회 (없으면 DB에서 토론/댓글 좋아요 ID를 한 번씩 조회하여 적재)
+     */
+    private LikedSet load(Long userId) {
+        return cache.get(userId, id -> {
+            LikedSet set = new LikedSet();
+            likeRepository.findDebateIdsByUserId(id).forEach(debateId -> set.debateIds.addLong(debateId));
+            commentLikeRepository.findCommentIdsByUserId(id).forEach(commentId -> set.commentIds.addLong(commentId));
+            set.debateIds.runOptimize();
+            set.commentIds.runOptimize();
+            return set;
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (롤백된 토글이 캐시에 남지 않도록 함)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
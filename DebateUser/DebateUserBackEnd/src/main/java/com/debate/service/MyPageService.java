@@ -6,9 +6,8 @@ import com.debate.dto.response.DebateOpinionResponse;
 import com.debate.entity.DebateOpinion;
 import com.debate.entity.User;
 import com.debate.repository.DebateOpinionRepository;
-import com.debate.repository.DebateRepository;
+import com.debate.repository.DebateSummaryRepository;
 import com.debate.repository.CommentRepository;
-import com.debate.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,10 +23,10 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class MyPageService {
-    private final DebateRepository debateRepository;
+    private final DebateSummaryRepository debateSummaryRepository;
     private final CommentRepository commentRepository;
     private final DebateOpinionRepository debateOpinionRepository;
-    private final LikeRepository likeRepository;
+    private final DebateService debateService;
 
     /**
      * 내 토론 목록 조회 (페이징)
@@ -41,12 +40,7 @@ public class MyPageService {
         User user = new User();
         user.setId(userId);
         
-        return debateRepository.findByUserAndIsHiddenFalse(user, pageable)
-                .map(debate -> {
-                    Long likeCount = likeRepository.countByDebate(debate);
-                    Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                    return DebateResponse.from(debate, likeCount, commentCount);
-                });
+        return debateService.toResponsePage(debateSummaryRepository.findByUserAndIsHiddenFalse(user, pageable));
     }
 
     /**
@@ -61,21 +55,9 @@ public class MyPageService {
         User user = new User();
         user.setId(userId);
         
-        List<CommentResponse> comments = commentRepository.findByUser(user)
-                .stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toList());
-        
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), comments.size());
-        List<CommentResponse> pagedComments = comments.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(
-            pagedComments,
-            pageable,
-            comments.size()
-        );
+        // DB에서 페이징 (전체 댓글을 메모리에 올리지 않음)
+        return commentRepository.findByUser(user, pageable)
+                .map(CommentResponse::from);
     }
 
     /**
@@ -107,28 +89,15 @@ public class MyPageService {
         User user = new User();
         user.setId(userId);
         
-        // 사용자가 작성한 모든 토론 가져오기
-        List<DebateResponse> allDebates = debateRepository.findByUserAndIsHiddenFalse(user, org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "createdAt"))
-                .stream()
-                .map(debate -> {
-                    Long likeCount = likeRepository.countByDebate(debate);
-                    Long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                    return DebateResponse.from(debate, likeCount, commentCount);
-                })
-                .filter(debate -> debate.getLikeCount() > 0) // 좋아요가 1개 이상인 것만
-                .sorted((a, b) -> Long.compare(b.getLikeCount(), a.getLikeCount())) // 좋아요 수가 많은 순으로 정렬
-                .collect(Collectors.toList());
-        
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allDebates.size());
-        List<DebateResponse> pagedDebates = allDebates.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(
-            pagedDebates,
-            pageable,
-            allDebates.size()
+        // 좋아요가 1개 이상인 토론만 좋아요 수가 많은 순으로 DB에서 정렬 및 페이징
+        Pageable sortedPageable = org.springframework.data.domain.PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "likeCount", "createdAt")
         );
+
+        return debateService.toResponsePage(
+                debateSummaryRepository.findByUserAndIsHiddenFalseAndLikeCountGreaterThan(user, 0L, sortedPageable));
     }
 }
 
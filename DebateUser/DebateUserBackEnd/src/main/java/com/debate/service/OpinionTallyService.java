@@ -0,0 +1,144 @@
+package com.debate.service;
+
+import com.debate.dto.response.OpinionTallyResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.repository.DebateOpinionRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토론별 입장 집계 엔진
+ * 토론마다 입장(OpinionSide)별 원자적 카운터를 메모리에 보관합니다.
+ * 첫 조회 시 GROUP BY 한 번으로 적재하고, 입장 선택/변경은 커밋 후 카운터에 바로 반영합니다.
+ * 변경된 토론은 표시만 해 두었다가 500ms마다 /topic/debate/{debateId}/tally로 전송하므로,
+ * 투표가 몰려도 토론당 브로드캐스트는 초당 최대 2회입니다.
+ * 적재 후 일정 시간이 지나면 DB에서 다시 적재하여 드리프트를 보정합니다.
+ */
+@Slf4j
+@Component
+public class OpinionTallyService {
+    private static final OpinionSide[] SIDES = OpinionSide.values();
+
+    private final DebateOpinionRepository debateOpinionRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final LoadingCache<Long, AtomicLongArray> tallies;
+
+    // 마지막 브로드캐스트 이후 집계가 바뀐 토론 ID
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public OpinionTallyService(DebateOpinionRepository debateOpinionRepository,
+                               SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry meterRegistry) {
+        this.debateOpinionRepository = debateOpinionRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.tallies = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats()
+                .build(this::loadTally);
+        CaffeineCacheMetrics.monitor(meterRegistry, tallies, "opinionTally");
+    }
+
+    /**
+     * 토론의 입장별 인원 수 조회
+     *
+     * @param debateId 토론 ID
+     * @return 입장별 인원 수 스냅샷
+     */
+    public OpinionTallyResponse getTally(Long debateId) {
+        return snapshot(debateId, tallies.get(debateId));
+    }
+
+    /**
+     * 입장 선택/변경 반영 (커밋 후, 적재된 토론만)
+     *
+     * @param debateId 토론 ID
+     * @param previousSide 이전 입장 (새로 선택한 경우 null)
+     * @param newSide 새 입장
+     */
+    public void recordVote(Long debateId, OpinionSide previousSide, OpinionSide newSide) {
+        if (previousSide == newSide) {
+            return;
+        }
+        afterCommit(() -> {
+            AtomicLongArray counts = tallies.getIfPresent(debateId);
+            if (counts != null) {
+                if (previousSide != null) {
+                    counts.decrementAndGet(previousSide.ordinal());
+                }
+                counts.incrementAndGet(newSide.ordinal());
+            }
+            dirty.add(debateId);
+        });
+    }
+
+    /**
+     * 집계가 바뀐 토론의 현재 집계를 브로드캐스트 (500ms마다, 토론당 최대 1회)
+     */
+    @Scheduled(fixedRate = 500)
+    public void broadcastChanges() {
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            Long debateId = iterator.next();
+            iterator.remove();
+            try {
+                messagingTemplate.convertAndSend("/topic/debate/" + debateId + "/tally", getTally(debateId));
+            } catch (Exception e) {
+                // 브로드캐스트 실패가 다른 토론 전송에 영향을 주지 않도록 예외 처리
+                log.warn("입장 집계 전송 실패 - 토론: {}", debateId, e);
+            }
+        }
+    }
+
+    private AtomicLongArray loadTally(Long debateId) {
+        AtomicLongArray counts = new AtomicLongArray(SIDES.length);
+        debateOpinionRepository.countBySide(debateId)
+                .forEach(row -> counts.set(row.getSide().ordinal(), row.getCount()));
+        return counts;
+    }
+
+    private OpinionTallyResponse snapshot(Long debateId, AtomicLongArray counts) {
+        Map<OpinionSide, Long> bySide = new EnumMap<>(OpinionSide.class);
+        long total = 0;
+        for (OpinionSide side : SIDES) {
+            long count = Math.max(counts.get(side.ordinal()), 0);
+            bySide.put(side, count);
+            total += count;
+        }
+        return OpinionTallyResponse.builder()
+                .debateId(debateId)
+                .counts(bySide)
+                .total(total)
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
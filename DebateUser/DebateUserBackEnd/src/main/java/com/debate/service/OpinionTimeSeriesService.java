@@ -0,0 +1,257 @@
+package com.debate.service;
+
+import com.debate.dto.response.OpinionTallyResponse;
+import com.debate.dto.response.OpinionTimelineResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.entity.OpinionTimeBucket.Granularity;
+import com.debate.repository.OpinionTimeBucketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토론 입장 시계열 서비스
+ * 입장 선택/변경을 분 단위 버킷의 입장별 변화량으로 메모리에 누적하고, 주기적으로 배치 upsert로 반영합니다.
+ * 하루가 지난 분 단위 버킷은 매시 시간 단위 버킷으로 합쳐 행 수를 줄입니다.
+ * 추이 조회는 토론 ID 인덱스 범위 조회 한 번으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpinionTimeSeriesService {
+    private static final String FLUSH_SQL =
+            "INSERT INTO opinion_time_bucket (debate_id, bucket_start, granularity, for_delta, against_delta, neutral_delta, other_delta) " +
+            "VALUES (?, ?, 'MINUTE', ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE for_delta = opinion_time_bucket.for_delta + new.for_delta, " +
+            "against_delta = opinion_time_bucket.against_delta + new.against_delta, " +
+            "neutral_delta = opinion_time_bucket.neutral_delta + new.neutral_delta, " +
+            "other_delta = opinion_time_bucket.other_delta + new.other_delta";
+    // 분 단위 버킷 보관 기간 (시간)
+    private static final int MINUTE_RETENTION_HOURS = 24;
+    private static final OpinionSide[] SIDES = OpinionSide.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OpinionTimeBucketRepository opinionTimeBucketRepository;
+    private final OpinionTallyService opinionTallyService;
+
+    private record BucketKey(Long debateId, LocalDateTime bucketStart) {
+    }
+
+    // 추이 계산용 버킷 (DB 버킷 + 아직 반영되지 않은 분 단위 변화량)
+    private record TimelineBucket(LocalDateTime bucketStart, Granularity granularity, long[] deltas) {
+    }
+
+    // 아직 반영되지 않은 분 단위 버킷별 입장 변화량 (변경은 compute 안에서만 하여 반영 시 꺼낸 배열이 더 바뀌지 않도록 함)
+    private final Map<BucketKey, AtomicLongArray> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 입장 선택/변경 기록 (커밋 후 메모리에 누적)
+     *
+     * @param debateId 토론 ID
+     * @param previousSide 이전 입장 (새로 선택한 경우 null)
+     * @param newSide 새 입장
+     */
+    public void record(Long debateId, OpinionSide previousSide, OpinionSide newSide) {
+        if (previousSide == newSide) {
+            return;
+        }
+        Runnable accumulate = () -> {
+            BucketKey key = new BucketKey(debateId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+            pending.compute(key, (k, deltas) -> {
+                if (deltas == null) {
+                    deltas = new AtomicLongArray(SIDES.length);
+                }
+                if (previousSide != null) {
+                    deltas.decrementAndGet(previousSide.ordinal());
+                }
+                deltas.incrementAndGet(newSide.ordinal());
+                return deltas;
+            });
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate.run();
+                }
+            });
+        } else {
+            accumulate.run();
+        }
+    }
+
+    /**
+     * 토론 입장 추이 조회
+     * 버킷 변화량을 시간 순으로 누적하며, 시계열 기록 이전의 인원은 현재 집계와의 차이로 baseline에 담습니다.
+     * 현재 집계에는 아직 반영되지 않은 변화량도 포함되어 있으므로, 메모리의 변화량을 같은 분의 버킷에 더해 함께 누적합니다.
+     *
+     * @param debateId 토론 ID
+     * @return 버킷별 누적 입장 분포
+     */
+    public OpinionTimelineResponse getTimeline(Long debateId) {
+        List<TimelineBucket> buckets = new ArrayList<>();
+        opinionTimeBucketRepository.findByDebateIdOrderByBucketStartAsc(debateId).forEach(bucket -> {
+            long[] deltas = new long[SIDES.length];
+            for (OpinionSide side : SIDES) {
+                deltas[side.ordinal()] = bucket.getDelta(side);
+            }
+            buckets.add(new TimelineBucket(bucket.getBucketStart(), bucket.getGranularity(), deltas));
+        });
+        mergePending(debateId, buckets);
+
+        long[] recorded = new long[SIDES.length];
+        buckets.forEach(bucket -> {
+            for (int i = 0; i < SIDES.length; i++) {
+                recorded[i] += bucket.deltas()[i];
+            }
+        });
+        OpinionTallyResponse tally = opinionTallyService.getTally(debateId);
+        long[] running = new long[SIDES.length];
+        for (OpinionSide side : SIDES) {
+            running[side.ordinal()] = Math.max(tally.getCounts().get(side) - recorded[side.ordinal()], 0);
+        }
+        Map<OpinionSide, Long> baseline = toMap(running);
+
+        List<OpinionTimelineResponse.Point> points = new ArrayList<>(buckets.size());
+        for (TimelineBucket bucket : buckets) {
+            for (int i = 0; i < SIDES.length; i++) {
+                running[i] += bucket.deltas()[i];
+            }
+            points.add(OpinionTimelineResponse.Point.builder()
+                    .bucketStart(bucket.bucketStart())
+                    .granularity(bucket.granularity())
+                    .counts(toMap(running))
+                    .build());
+        }
+
+        return OpinionTimelineResponse.builder()
+                .debateId(debateId)
+                .baseline(baseline)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 누적된 변화량을 배치 upsert로 반영 (10초 간격)
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 버킷을 맵에서 먼저 떼어낸 뒤 읽으므로, 그 사이 들어온 변화량은 새 배열에 쌓여 다음 주기에 반영됨
+        List<Object[]> batch = new ArrayList<>();
+        for (BucketKey key : List.copyOf(pending.keySet())) {
+            AtomicLongArray detached = pending.remove(key);
+            if (detached == null) {
+                continue;
+            }
+            long[] deltas = new long[SIDES.length];
+            boolean changed = false;
+            for (int i = 0; i < SIDES.length; i++) {
+                deltas[i] = detached.get(i);
+                changed |= deltas[i] != 0;
+            }
+            if (changed) {
+                batch.add(new Object[]{key.debateId(), key.bucketStart(), deltas[0], deltas[1], deltas[2], deltas[3]});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 재시도하도록 되돌림
+            log.error("입장 시계열 반영 실패 - {}건", batch.size(), e);
+            batch.forEach(row -> pending.compute(new BucketKey((Long) row[0], (LocalDateTime) row[1]), (k, deltas) -> {
+                if (deltas == null) {
+                    deltas = new AtomicLongArray(SIDES.length);
+                }
+                for (int i = 0; i < SIDES.length; i++) {
+                    deltas.addAndGet(i, (Long) row[i + 2]);
+                }
+                return deltas;
+            }));
+        }
+    }
+
+    /**
+     * 매시 5분에 하루가 지난 분 단위 버킷을 시간 단위 버킷으로 합산
+     * 기준 시각을 정시로 맞춰 한 시간 구간이 두 단위로 나뉘지 않도록 합니다.
+     */
+    @Scheduled(cron = "0 5 * * * *")
+    @Transactional
+    public void compact() {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(MINUTE_RETENTION_HOURS);
+        int rolledUp = opinionTimeBucketRepository.rollUpMinuteBuckets(before);
+        int deleted = opinionTimeBucketRepository.deleteMinuteBuckets(before);
+        if (deleted > 0) {
+            log.info("Compacted {} minute opinion buckets into {} hourly rows", deleted, rolledUp);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 변화량 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 아직 반영되지 않은 토론의 변화량을 같은 분의 분 단위 버킷에 더하거나 새 버킷으로 추가 (시간 순 유지)
+     */
+    private void mergePending(Long debateId, List<TimelineBucket> buckets) {
+        Map<LocalDateTime, long[]> unflushed = new HashMap<>();
+        pending.forEach((key, deltas) -> {
+            if (key.debateId().equals(debateId)) {
+                long[] values = unflushed.computeIfAbsent(key.bucketStart(), k -> new long[SIDES.length]);
+                for (int i = 0; i < SIDES.length; i++) {
+                    values[i] += deltas.get(i);
+                }
+            }
+        });
+        if (unflushed.isEmpty()) {
+            return;
+        }
+
+        for (TimelineBucket bucket : buckets) {
+            long[] values = bucket.granularity() == Granularity.MINUTE ? unflushed.remove(bucket.bucketStart()) : null;
+            if (values != null) {
+                for (int i = 0; i < SIDES.length; i++) {
+                    bucket.deltas()[i] += values[i];
+                }
+            }
+        }
+        unflushed.forEach((bucketStart, values) -> buckets.add(new TimelineBucket(bucketStart, Granularity.MINUTE, values)));
+        buckets.sort(Comparator.comparing(TimelineBucket::bucketStart));
+    }
+
+    private static Map<OpinionSide, Long> toMap(long[] counts) {
+        Map<OpinionSide, Long> map = new EnumMap<>(OpinionSide.class);
+        for (OpinionSide side : SIDES) {
+            map.put(side, counts[side.ordinal()]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,285 @@
+package com.debate.service;
+
+import com.debate.entity.Debate;
+import com.debate.entity.DebateSummary;
+import com.debate.repository.DebateSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 토론 트렌딩(인기 급상승) 점수 엔진
+ * 좋아요, 댓글, 의견, 채팅, 조회 이벤트마다 시간 감쇠 점수를 증분 갱신하고,
+ * 카테고리별 점수 순 정렬 구조(ConcurrentSkipListSet)를 유지하여 요청 시 집계 쿼리 없이 순위를 제공합니다.
+ *
+ * 점수는 기준 시각(epoch) 대비 forward decay 방식으로 저장합니다.
+ * (가중치 × 2^((이벤트 시각 - epoch) / 반감기)) 누적값은 모든 토론에 같은 비율로 감쇠되므로
+ * 시간이 지나도 재계산 없이 순위 비교가 가능합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+    // 점수 반감기 (6시간이 지나면 이벤트 가치가 절반)
+    private static final double HALF_LIFE_MILLIS = Duration.ofHours(6).toMillis();
+    // 이 값 미만으로 감쇠된 토론은 순위에서 제거
+    private static final double MIN_SCORE = 0.01;
+    // 기동 시 점수를 복원할 최근 토론 수
+    private static final int SEED_SIZE = 1000;
+    // 순위 조회 시 한 번에 로드할 후보 토론 수
+    private static final int FETCH_BATCH = 50;
+    // 순위 조회 한 번에 확인하는 최대 후보 수 (필터에 걸리는 토론이 많아도 쿼리 수를 제한)
+    private static final int MAX_SCAN = 1000;
+    // 전체 목록 순위 키
+    private static final Long ALL = 0L;
+
+    /**
+     * 트렌딩 점수 이벤트 종류와 가중치
+     */
+    public enum Activity {
+        VIEW(1),
+        CHAT(2),
+        LIKE(3),
+        COMMENT(4),
+        OPINION(5);
+
+        private final double weight;
+
+        Activity(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final DebateSummaryRepository debateSummaryRepository;
+
+    // 점수 기준 시각 (epoch millis), rebase 시 갱신
+    private volatile long epochMillis = System.currentTimeMillis();
+
+    // 토론 ID → 점수 항목
+    private final Map<Long, Ranked> scores = new ConcurrentHashMap<>();
+
+    // 카테고리 ID(전체 목록은 ALL) → 점수 내림차순 정렬 구조
+    private final Map<Long, NavigableSet<Ranked>> rankings = new ConcurrentHashMap<>();
+
+    // 점수 갱신(읽기 잠금, 동시 수행)과 기준 시각 재설정(쓰기 잠금)의 직렬화
+    // 재설정 중 갱신이 끼어들면 이전 기준의 증분이 새 기준 점수에 더해지거나 두 번 축소됨
+    private final ReadWriteLock epochLock = new ReentrantReadWriteLock();
+
+    /**
+     * 정렬 구조에 들어가는 불변 항목 (점수 갱신 시 교체)
+     */
+    private record Ranked(Long debateId, Long categoryId, double score) {
+    }
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::debateId, Comparator.reverseOrder());
+
+    /**
+     * 토론 활동 이벤트 반영
+     *
+     * @param debate 활동이 발생한 토론 (카테고리 ID만 사용하므로 프록시여도 무방)
+     * @param activity 활동 종류
+     */
+    public void record(Debate debate, Activity activity) {
+        record(debate.getId(), debate.getCategory().getId(), activity);
+    }
+
+    /**
+     * 토론 활동 이벤트 반영 (토론 엔티티 없이 ID로)
+     *
+     * @param debateId 토론 ID
+     * @param categoryId 카테고리 ID
+     * @param activity 활동 종류
+     */
+    public void record(Long debateId, Long categoryId, Activity activity) {
+        epochLock.readLock().lock();
+        try {
+            add(debateId, categoryId, activity.weight * growth(System.currentTimeMillis()));
+        } finally {
+            epochLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토론 삭제 시 순위에서 제거
+     *
+     * @param debateId 토론 ID
+     */
+    public void remove(Long debateId) {
+        scores.computeIfPresent(debateId, (id, current) -> {
+            unlink(current);
+            return null;
+        });
+    }
+
+    /**
+     * 트렌딩 순위 조회
+     * 정렬 구조를 순서대로 순회하며 후보 토론을 묶음 단위로 로드하고, 숨김/상태 조건을 적용합니다.
+     * 상위 MAX_SCAN개 후보까지만 확인하므로 조건에 맞는 토론이 적으면 size보다 적게 반환될 수 있습니다.
+     *
+     * @param categoryId 카테고리 ID (전체 목록은 null)
+     * @param status 토론 상태 필터 (선택적)
+     * @param offset 건너뛸 항목 수
+     * @param size 조회할 항목 수
+     * @return 트렌딩 순서의 토론 목록
+     */
+    public List<DebateSummary> findTrending(Long categoryId, Debate.DebateStatus status, long offset, int size) {
+        NavigableSet<Ranked> ranking = rankings.get(categoryId != null ? categoryId : ALL);
+        List<DebateSummary> result = new ArrayList<>();
+        if (ranking == null) {
+            return result;
+        }
+
+        long skipped = 0;
+        int scanned = 0;
+        Iterator<Ranked> iterator = ranking.iterator();
+        while (iterator.hasNext() && result.size() < size && scanned < MAX_SCAN) {
+            List<Long> batch = new ArrayList<>(FETCH_BATCH);
+            while (iterator.hasNext() && batch.size() < FETCH_BATCH) {
+                batch.add(iterator.next().debateId());
+            }
+            scanned += batch.size();
+
+            Map<Long, DebateSummary> loaded = debateSummaryRepository.findByIdIn(batch).stream()
+                    .collect(Collectors.toMap(DebateSummary::getId, Function.identity()));
+            for (Long debateId : batch) {
+                DebateSummary debate = loaded.get(debateId);
+                if (debate == null || debate.getIsHidden() || (status != null && debate.getStatus() != status)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                result.add(debate);
+                if (result.size() >= size) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 순위에 포함된 토론 수 (카테고리 ID가 null이면 전체)
+     */
+    public int countTracked(Long categoryId) {
+        NavigableSet<Ranked> ranking = rankings.get(categoryId != null ? categoryId : ALL);
+        return ranking != null ? ranking.size() : 0;
+    }
+
+    /**
+     * 기동 시 최근 토론의 누적 지표로 점수 복원
+     * 생성 시각 기준으로 감쇠하여, 오래된 토론의 누적 지표가 순위를 독점하지 않도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<DebateSummary> recent = debateSummaryRepository.findByIsHiddenFalse(
+                PageRequest.of(0, SEED_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+        epochLock.readLock().lock();
+        try {
+            for (DebateSummary debate : recent) {
+                double weight = debate.getViewCount() * Activity.VIEW.weight
+                        + debate.getLikeCount() * Activity.LIKE.weight
+                        + debate.getCommentCount() * Activity.COMMENT.weight
+                        + debate.getOpinionCount() * Activity.OPINION.weight;
+                if (weight <= 0) {
+                    continue;
+                }
+                long createdAt = debate.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                add(debate.getId(), debate.getCategory().getId(), weight * growth(createdAt));
+            }
+        } finally {
+            epochLock.readLock().unlock();
+        }
+        log.info("Seeded trending scores for {} debates", scores.size());
+    }
+
+    /**
+     * 기준 시각 재설정 (1시간 간격)
+     * 점수 지수 증가로 인한 overflow를 방지하고, 충분히 감쇠된 토론을 정리합니다.
+     * 재설정하는 동안 점수 갱신은 잠시 대기합니다.
+     */
+    @Scheduled(fixedDelay = 3600000)
+    public void rebase() {
+        epochLock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            double factor = 1.0 / growth(now);
+            epochMillis = now;
+
+            for (Long debateId : scores.keySet()) {
+                scores.computeIfPresent(debateId, (id, current) -> {
+                    unlink(current);
+                    double score = current.score() * factor;
+                    if (score < MIN_SCORE) {
+                        return null;
+                    }
+                    Ranked rebased = new Ranked(id, current.categoryId(), score);
+                    link(rebased);
+                    return rebased;
+                });
+            }
+        } finally {
+            epochLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 기준 시각 대비 지수 증가 계수
+     */
+    private double growth(long timeMillis) {
+        return Math.pow(2, (timeMillis - epochMillis) / HALF_LIFE_MILLIS);
+    }
+
+    private void add(Long debateId, Long categoryId, double delta) {
+        // compute는 같은 토론에 대한 갱신을 직렬화하므로 정렬 구조에 이전 항목이 남지 않음
+        scores.compute(debateId, (id, previous) -> {
+            double score = delta;
+            if (previous != null) {
+                unlink(previous);
+                score += previous.score();
+            }
+            Ranked updated = new Ranked(id, categoryId, score);
+            link(updated);
+            return updated;
+        });
+    }
+
+    private void link(Ranked ranked) {
+        rankings.computeIfAbsent(ALL, key -> new ConcurrentSkipListSet<>(ORDER)).add(ranked);
+        rankings.computeIfAbsent(ranked.categoryId(), key -> new ConcurrentSkipListSet<>(ORDER)).add(ranked);
+    }
+
+    private void unlink(Ranked ranked) {
+        NavigableSet<Ranked> all = rankings.get(ALL);
+        if (all != null) {
+            all.remove(ranked);
+        }
+        NavigableSet<Ranked> category = rankings.get(ranked.categoryId());
+        if (category != null) {
+            category.remove(ranked);
+        }
+    }
+}
@@ -7,8 +7,8 @@ import com.debate.entity.User;
 import com.debate.exception.ResourceNotFoundException;
 import com.debate.repository.DebateOpinionRepository;
 import com.debate.repository.DebateRepository;
+import com.debate.repository.DebateSummaryRepository;
 import com.debate.repository.CommentRepository;
-import com.debate.repository.LikeRepository;
 import com.debate.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -24,9 +24,11 @@ import org.springframework.data.domain.Sort;
 public class UserService {
     private final UserRepository userRepository;
     private final DebateRepository debateRepository;
+    private final DebateSummaryRepository debateSummaryRepository;
     private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
     private final DebateOpinionRepository debateOpinionRepository;
+    private final DebateService debateService;
+    private final ChatParticipantCache chatParticipantCache;
 
     /**
      * 받은 좋아요 수 기준 사용자 랭킹 조회
@@ -96,15 +98,11 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
         // 통계 정보 계산
-        long debateCount = debateRepository.findByUserAndIsHiddenFalse(user, Pageable.unpaged()).getTotalElements();
-        long commentCount = commentRepository.findByUser(user).size();
+        long debateCount = debateRepository.countByUserAndIsHiddenFalse(user);
+        long commentCount = commentRepository.countByUser(user);
 
         // 받은 좋아요 수: 사용자가 작성한 토론들에 받은 좋아요 총합
-        long likeCount = debateRepository.findByUserAndIsHiddenFalse(user, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .mapToLong(debate -> likeRepository.countByDebate(debate))
-                .sum();
+        long likeCount = debateRepository.sumLikeCountByUser(user);
 
         // 참여한 토론 수: 입장을 선택한 토론 수
         long participatedCount = debateOpinionRepository.findByUser(user).size();
@@ -128,6 +126,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        chatParticipantCache.evict(userId);
         return UserResponse.from(user);
     }
 
@@ -152,12 +151,7 @@ public class UserService {
             Pageable pageable) {
         User user = getUserEntity(userId);
 
-        return debateRepository.findByUserAndIsHiddenFalse(user, pageable)
-                .map(debate -> {
-                    long likeCount = likeRepository.countByDebate(debate);
-                    long commentCount = commentRepository.countByDebateAndIsHiddenFalse(debate);
-                    return com.debate.dto.response.DebateResponse.from(debate, likeCount, commentCount);
-                });
+        return debateService.toResponsePage(debateSummaryRepository.findByUserAndIsHiddenFalse(user, pageable));
     }
 
     /**
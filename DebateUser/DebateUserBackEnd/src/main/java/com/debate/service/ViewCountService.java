@@ -0,0 +1,103 @@
+package com.debate.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토론 조회수 지연 쓰기(write-behind) 서비스
+ * 상세 조회 시마다 행을 갱신하지 않고 메모리의 LongAdder에 누적한 뒤,
+ * 주기적으로 "view_count = view_count + ?" 배치 UPDATE로 반영합니다.
+ * 반영 시 항목을 맵에서 먼저 떼어낸 뒤 합산하므로, 그 이후의 증가는 새 항목에 누적되어 유실되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+    private static final String FLUSH_SQL = "UPDATE debate SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 토론 ID별 아직 반영되지 않은 조회수
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     *
+     * @param debateId 토론 ID
+     */
+    public void increment(Long debateId) {
+        // 증가를 맵 연산 안에서 수행하여, 반영 스레드가 떼어낸 항목에는 더 이상 누적되지 않도록 함
+        pendingViews.compute(debateId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.increment();
+            return target;
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 조회
+     *
+     * @param debateId 토론 ID
+     * @return 누적 대기 중인 조회수
+     */
+    public long getPending(Long debateId) {
+        LongAdder adder = pendingViews.get(debateId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE로 반영 (5초 간격)
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Long debateId : new ArrayList<>(pendingViews.keySet())) {
+            // 항목을 먼저 떼어낸 뒤 합산 (이후 증가는 새 항목에 누적됨)
+            LongAdder adder = pendingViews.remove(debateId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sum();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, debateId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 재시도하도록 되돌림
+            log.error("조회수 반영 실패 - {}건", batch.size(), e);
+            batch.forEach(row -> pendingViews.compute((Long) row[1], (id, adder) -> {
+                LongAdder target = adder != null ? adder : new LongAdder();
+                target.add((Long) row[0]);
+                return target;
+            }));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
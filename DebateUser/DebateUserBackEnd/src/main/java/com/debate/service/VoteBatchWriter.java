@@ -0,0 +1,247 @@
+package com.debate.service;
+
+import com.debate.dto.response.LikeToggleResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.repository.DebateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 투표 배치 쓰기
+ * 투표 버퍼가 모은 의견/좋아요를 한 트랜잭션의 JDBC 배치로 반영하고,
+ * 변경 전 상태를 바탕으로 카운터/집계/캐시를 토론 단위로 한 번에 보정합니다.
+ * 버퍼를 거치지 않는 단건 입장 선택도 1건짜리 배치로 이 경로를 사용하여, 변경 전 입장은 항상 잠금 조회로 얻습니다.
+ * 배치 안의 (토론, 사용자) 조합은 버퍼에서 이미 하나로 합쳐져 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteBatchWriter {
+    private static final String OPINION_UPSERT_SQL =
+            "INSERT INTO debate_opinion (debate_id, user_id, side, content, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW()) AS new " +
+            "ON DUPLICATE KEY UPDATE side = new.side, content = COALESCE(new.content, debate_opinion.content), updated_at = NOW()";
+    private static final String LIKE_INSERT_SQL =
+            "INSERT IGNORE INTO likes (debate_id, user_id, created_at) VALUES (?, ?, NOW())";
+    private static final String LIKE_DELETE_SQL =
+            "DELETE FROM likes WHERE debate_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DebateRepository debateRepository;
+    private final OpinionTallyService opinionTallyService;
+    private final OpinionTimeSeriesService opinionTimeSeriesService;
+    private final TrendingService trendingService;
+    private final DebateListCache debateListCache;
+    private final LikedSetCache likedSetCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 입장 선택 요청
+     *
+     * @param debateId 토론 ID
+     * @param categoryId 토론의 카테고리 ID (트렌딩 반영용)
+     * @param userId 사용자 ID
+     * @param side 입장
+     * @param content 의견 내용 (null이면 기존 내용 유지)
+     */
+    public record OpinionVote(long debateId, long categoryId, long userId, OpinionSide side, String content) {
+    }
+
+    /**
+     * 입장 선택 결과
+     *
+     * @param accepted 반영 여부 (반영 시점에 토론이 진행 중이 아니면 false)
+     * @param previousSide 변경 전 입장 (새로 선택했거나 반영되지 않은 경우 null)
+     */
+    public record OpinionResult(boolean accepted, OpinionSide previousSide) {
+    }
+
+    /**
+     * 좋아요 요청 (원하는 최종 상태)
+     */
+    public record LikeVote(long debateId, long userId, boolean liked) {
+    }
+
+    private record Pair(long debateId, long userId) {
+    }
+
+    /**
+     * 입장 일괄 반영
+     * 요청 검증은 상태 캐시로 했으므로, 버퍼에서 기다리는 사이 종료된 토론의 요청은 여기서 다시 걸러냅니다.
+     * 토론 행을 잠근 상태에서 진행 여부를 확인하므로 종료 처리(상태 변경)와 직렬화됩니다.
+     *
+     * @param votes 입장 선택 요청 (조합별 1건)
+     * @return 요청 순서대로 반영 여부와 변경 전 입장
+     */
+    @Transactional
+    public List<OpinionResult> writeOpinions(List<OpinionVote> votes) {
+        Set<Long> openDebates = lockOpenDebates(votes.stream().map(OpinionVote::debateId).distinct().sorted().toList());
+        List<OpinionVote> accepted = votes.stream().filter(vote -> openDebates.contains(vote.debateId())).toList();
+
+        // 변경 전 입장 조회 (행 잠금으로 upsert까지 다른 쓰기와 직렬화)
+        Map<Pair, OpinionSide> previous = new HashMap<>();
+        if (!accepted.isEmpty()) {
+            jdbcTemplate.query(
+                    "SELECT debate_id, user_id, side FROM debate_opinion WHERE (debate_id, user_id) IN (" + placeholders(accepted.size()) + ") FOR UPDATE",
+                    rs -> {
+                        previous.put(new Pair(rs.getLong(1), rs.getLong(2)), OpinionSide.valueOf(rs.getString(3)));
+                    },
+                    pairArgs(accepted.stream().map(vote -> new Pair(vote.debateId(), vote.userId())).toList()));
+
+            jdbcTemplate.batchUpdate(OPINION_UPSERT_SQL, accepted.stream()
+                    .map(vote -> new Object[]{vote.debateId(), vote.userId(), vote.side().name(), vote.content()})
+                    .toList());
+        }
+
+        List<OpinionResult> result = new ArrayList<>(votes.size());
+        Map<Long, Long> newOpinions = new HashMap<>();
+        List<OpinionVote> trending = new ArrayList<>();
+        for (OpinionVote vote : votes) {
+            if (!openDebates.contains(vote.debateId())) {
+                result.add(new OpinionResult(false, null));
+                continue;
+            }
+            OpinionSide previousSide = previous.get(new Pair(vote.debateId(), vote.userId()));
+            result.add(new OpinionResult(true, previousSide));
+            if (previousSide == null) {
+                newOpinions.merge(vote.debateId(), 1L, Long::sum);
+                trending.add(vote);
+            }
+            opinionTallyService.recordVote(vote.debateId(), previousSide, vote.side());
+            opinionTimeSeriesService.record(vote.debateId(), previousSide, vote.side());
+        }
+        newOpinions.forEach(debateRepository::adjustOpinionCount);
+        if (!trending.isEmpty()) {
+            afterCommit(() -> trending.forEach(vote ->
+                    trendingService.record(vote.debateId(), vote.categoryId(), TrendingService.Activity.OPINION)));
+        }
+        return result;
+    }
+
+    /**
+     * 좋아요 일괄 반영
+     *
+     * @param votes 좋아요 요청 (조합별 1건)
+     * @return 요청 순서대로 처리 후 상태와 좋아요 수 변화량
+     */
+    @Transactional
+    public List<LikeToggleResponse> writeLikes(List<LikeVote> votes) {
+        Set<Pair> existing = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT debate_id, user_id FROM likes WHERE (debate_id, user_id) IN (" + placeholders(votes.size()) + ") FOR UPDATE",
+                rs -> {
+                    existing.add(new Pair(rs.getLong(1), rs.getLong(2)));
+                },
+                pairArgs(votes.stream().map(vote -> new Pair(vote.debateId(), vote.userId())).toList()));
+
+        // 상태가 바뀌는 요청만 쓰기
+        List<LikeVote> inserts = new ArrayList<>();
+        List<LikeVote> deletes = new ArrayList<>();
+        for (LikeVote vote : votes) {
+            boolean exists = existing.contains(new Pair(vote.debateId(), vote.userId()));
+            if (vote.liked() && !exists) {
+                inserts.add(vote);
+            } else if (!vote.liked() && exists) {
+                deletes.add(vote);
+            }
+        }
+        Map<LikeVote, Integer> deltas = new HashMap<>();
+        int[] inserted = jdbcTemplate.batchUpdate(LIKE_INSERT_SQL, inserts.stream()
+                .map(vote -> new Object[]{vote.debateId(), vote.userId()})
+                .toList());
+        for (int i = 0; i < inserts.size(); i++) {
+            deltas.put(inserts.get(i), inserted[i] > 0 ? 1 : 0);
+        }
+        int[] deleted = jdbcTemplate.batchUpdate(LIKE_DELETE_SQL, deletes.stream()
+                .map(vote -> new Object[]{vote.debateId(), vote.userId()})
+                .toList());
+        for (int i = 0; i < deletes.size(); i++) {
+            deltas.put(deletes.get(i), deleted[i] > 0 ? -1 : 0);
+        }
+
+        List<LikeToggleResponse> result = new ArrayList<>(votes.size());
+        Map<Long, Long> likeDeltas = new HashMap<>();
+        for (LikeVote vote : votes) {
+            int delta = deltas.getOrDefault(vote, 0);
+            result.add(LikeToggleResponse.builder().liked(vote.liked()).delta(delta).build());
+            // 변화가 없던 요청도 반전 방향을 정한 좋아요 집합 캐시가 어긋났을 수 있으므로 무효화
+            likedSetCache.evictUser(vote.userId());
+            if (delta != 0) {
+                likeDeltas.merge(vote.debateId(), (long) delta, Long::sum);
+            }
+            if (delta > 0) {
+                eventPublisher.publishEvent(new LikeNotificationListener.DebateLiked(vote.debateId(), vote.userId()));
+            }
+        }
+        likeDeltas.forEach((debateId, delta) -> {
+            if (delta != 0) {
+                debateRepository.adjustLikeCount(debateId, delta);
+            }
+            debateListCache.evictDebate(debateId, "popular");
+        });
+        return result;
+    }
+
+    /**
+     * 진행 중인 토론 행을 잠그고 ID 조회 (ID 순으로 잠가 배치 간 교착을 방지)
+     */
+    private Set<Long> lockOpenDebates(List<Long> debateIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Object[] args = new Object[debateIds.size() + 2];
+        for (int i = 0; i < debateIds.size(); i++) {
+            args[i] = debateIds.get(i);
+        }
+        args[debateIds.size()] = now;
+        args[debateIds.size() + 1] = now;
+
+        Set<Long> open = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT id FROM debate WHERE id IN (" + String.join(", ", Collections.nCopies(debateIds.size(), "?")) + ") " +
+                "AND status = 'ACTIVE' AND start_date <= ? AND end_date >= ? ORDER BY id FOR UPDATE",
+                rs -> {
+                    open.add(rs.getLong(1));
+                },
+                args);
+        return open;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "(?, ?)"));
+    }
+
+    private static Object[] pairArgs(List<Pair> pairs) {
+        Object[] args = new Object[pairs.size() * 2];
+        for (int i = 0; i < pairs.size(); i++) {
+            args[i * 2] = pairs.get(i).debateId();
+            args[i * 2 + 1] = pairs.get(i).userId();
+        }
+        return args;
+    }
+}
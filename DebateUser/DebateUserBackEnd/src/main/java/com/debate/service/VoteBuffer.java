@@ -0,0 +1,307 @@
+package com.debate.service;
+
+import com.debate.dto.response.LikeToggleResponse;
+import com.debate.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * 투표 버퍼 (의견/좋아요 수집 모드)
+ * 종료 직전처럼 투표가 몰릴 때 요청마다 트랜잭션을 열지 않고, 크기 제한이 있는 메모리 버퍼에 모은 뒤
+ * 전용 쓰기 스레드가 수 ms 간격으로 JDBC 배치 upsert 한 번에 반영합니다.
+ * 같은 (토론, 사용자) 조합의 대기 중인 요청은 하나로 합쳐져 마지막 요청이 반영됩니다.
+ * 요청 스레드는 자신의 요청이 포함된 배치가 커밋될 때까지 기다린 뒤 응답하므로(그룹 커밋), 성공 응답은 곧 DB 반영을 의미합니다.
+ * 버퍼가 가득 차면 null을 반환하여 호출자가 기존 단건 경로로 처리하도록 합니다.
+ * 제한 시간 안에 반영되지 않으면 아직 배치로 꺼내지 않은 요청만 버퍼에서 빼고 거절하며,
+ * 이미 반영 중인 요청은 결과가 나올 때까지 기다려 "거절 응답 후 반영"이 생기지 않도록 합니다.
+ * 배치 반영이 실패하면 한 건씩 다시 반영하여, 실패한 요청의 호출자만 오류를 받습니다.
+ */
+@Slf4j
+@Component
+public class VoteBuffer {
+    // 버퍼 반영 대기 최대 시간
+    private static final long AWAIT_TIMEOUT_SECONDS = 5;
+
+    private final VoteBatchWriter voteBatchWriter;
+    private final boolean enabled;
+    private final int capacity;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    private final Map<Key, Pending<VoteBatchWriter.OpinionVote, VoteBatchWriter.OpinionResult>> pendingOpinions = new ConcurrentHashMap<>();
+    private final Map<Key, Pending<VoteBatchWriter.LikeVote, LikeToggleResponse>> pendingLikes = new ConcurrentHashMap<>();
+    // 대기 중인 조합 수 (의견 + 좋아요)
+    private final AtomicInteger size = new AtomicInteger();
+    // 주기 반영과 수동 반영(스케줄러/종료)의 직렬화
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledExecutorService writer;
+
+    public VoteBuffer(VoteBatchWriter voteBatchWriter,
+                      MeterRegistry meterRegistry,
+                      @Value("${vote-buffer.enabled:false}") boolean enabled,
+                      @Value("${vote-buffer.capacity:10000}") int capacity,
+                      @Value("${vote-buffer.flush-interval-ms:5}") long flushIntervalMillis,
+                      @Value("${vote-buffer.batch-size:500}") int batchSize) {
+        this.voteBatchWriter = voteBatchWriter;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        meterRegistry.gauge("vote.buffer.pending", size);
+    }
+
+    private record Key(long debateId, long userId) {
+    }
+
+    /**
+     * 조합별 대기 요청 (합쳐진 최종 요청과 결과를 기다리는 호출자들)
+     */
+    private static final class Pending<V, R> {
+        private V vote;
+        private final List<CompletableFuture<R>> waiters = new ArrayList<>();
+
+        private Pending(V vote) {
+            this.vote = vote;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vote-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 버퍼에 넣은 요청 (결과 대기와 지연 시 철회)
+     */
+    public static final class Submission<R> {
+        private final CompletableFuture<R> future;
+        // 아직 배치로 꺼내지 않았고 다른 요청과 합쳐지지 않았으면 버퍼에서 제거하고 true 반환
+        private final BooleanSupplier withdraw;
+
+        private Submission(CompletableFuture<R> future, BooleanSupplier withdraw) {
+            this.future = future;
+            this.withdraw = withdraw;
+        }
+
+        CompletableFuture<R> future() {
+            return future;
+        }
+
+        /**
+         * 버퍼 반영 결과 대기
+         * 제한 시간이 지나면 버퍼에서 철회를 시도하고, 이미 반영 중이거나 다른 요청과 합쳐져 철회할 수 없으면 결과까지 기다립니다.
+         *
+         * @throws ServiceUnavailableException 제한 시간 안에 반영되지 않아 요청을 철회한 경우 (반영되지 않음)
+         */
+        public R await() {
+            try {
+                return future.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (withdraw.getAsBoolean()) {
+                    throw new ServiceUnavailableException("투표가 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+                }
+                return awaitResult();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("투표 반영 대기 중 중단되었습니다");
+            }
+        }
+
+        private R awaitResult() {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("투표 반영 대기 중 중단되었습니다");
+            }
+        }
+
+        private static RuntimeException unwrap(ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                return cause;
+            }
+            return new IllegalStateException("투표 반영에 실패했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * 입장 선택 요청 추가
+     *
+     * @return 반영 여부와 변경 전 입장을 기다릴 수 있는 요청 (비활성화 또는 버퍼가 가득 찬 경우 null)
+     */
+    public Submission<VoteBatchWriter.OpinionResult> submitOpinion(VoteBatchWriter.OpinionVote vote) {
+        return submit(pendingOpinions, new Key(vote.debateId(), vote.userId()), vote,
+                (previous, latest) -> latest.content() != null ? latest
+                        : new VoteBatchWriter.OpinionVote(latest.debateId(), latest.categoryId(), latest.userId(),
+                                latest.side(), previous.content()));
+    }
+
+    /**
+     * 좋아요 요청 추가
+     *
+     * @return 처리 결과를 기다릴 수 있는 요청 (비활성화 또는 버퍼가 가득 찬 경우 null)
+     */
+    public Submission<LikeToggleResponse> submitLike(VoteBatchWriter.LikeVote vote) {
+        return submit(pendingLikes, new Key(vote.debateId(), vote.userId()), vote, (previous, latest) -> latest);
+    }
+
+    /**
+     * 대기 중인 요청 전체 반영 (쓰기 스레드 주기 실행, 토론 종료 처리 전, 애플리케이션 종료 시)
+     */
+    public void flush() {
+        if (size.get() == 0) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (drain(pendingOpinions, voteBatchWriter::writeOpinions) | drain(pendingLikes, voteBatchWriter::writeLikes)) {
+                // 반영 중 새로 들어온 요청까지 비울 때까지 반복
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 쓰기 스레드를 멈추고 남은 요청 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private <V, R> Submission<R> submit(Map<Key, Pending<V, R>> pending, Key key, V vote, BinaryOperator<V> merge) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<R> future = new CompletableFuture<>();
+        boolean[] accepted = {true};
+        pending.compute(key, (k, current) -> {
+            if (current == null) {
+                if (size.incrementAndGet() > capacity) {
+                    size.decrementAndGet();
+                    accepted[0] = false;
+                    return null;
+                }
+                current = new Pending<>(vote);
+            } else {
+                current.vote = merge.apply(current.vote, vote);
+            }
+            current.waiters.add(future);
+            return current;
+        });
+        return accepted[0] ? new Submission<>(future, () -> withdraw(pending, key, future)) : null;
+    }
+
+    /**
+     * 대기 중인 요청 철회
+     * drain()이 조합을 맵에서 꺼낸 뒤에는 같은 키에 새 대기 요청만 있으므로, 자신의 요청만 남아 있을 때만 제거합니다.
+     */
+    private <V, R> boolean withdraw(Map<Key, Pending<V, R>> pending, Key key, CompletableFuture<R> future) {
+        boolean[] removed = {false};
+        pending.computeIfPresent(key, (k, current) -> {
+            if (current.waiters.size() == 1 && current.waiters.get(0) == future) {
+                size.decrementAndGet();
+                removed[0] = true;
+                return null;
+            }
+            return current;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 한 배치를 꺼내 반영하고 대기 중인 호출자에게 결과 전달
+     *
+     * @return 반영한 요청이 있었는지 여부
+     */
+    private <V, R> boolean drain(Map<Key, Pending<V, R>> pending, Function<List<V>, List<R>> write) {
+        List<Pending<V, R>> batch = new ArrayList<>();
+        Iterator<Key> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < batchSize) {
+            Pending<V, R> entry = pending.remove(keys.next());
+            if (entry != null) {
+                size.decrementAndGet();
+                batch.add(entry);
+            }
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        // 꺼낸 뒤에는 같은 조합의 새 요청이 다음 배치로 분리되므로 대기자 목록이 더 바뀌지 않음
+        try {
+            List<R> results = write.apply(batch.stream().map(entry -> entry.vote).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                R result = results.get(i);
+                batch.get(i).waiters.forEach(waiter -> waiter.complete(result));
+            }
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return true;
+            }
+            log.warn("투표 배치 반영 실패, 개별 반영으로 재시도 - {}건", batch.size(), e);
+            for (Pending<V, R> entry : batch) {
+                try {
+                    R result = write.apply(List.of(entry.vote)).get(0);
+                    entry.waiters.forEach(waiter -> waiter.complete(result));
+                } catch (Exception retryException) {
+                    fail(entry, retryException);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void fail(Pending<?, ?> entry, Exception e) {
+        log.error("투표 반영 실패 - {}", entry.vote, e);
+        entry.waiters.forEach(waiter -> waiter.completeExceptionally(e));
+    }
+}
@@ -0,0 +1,52 @@
+package com.debate.util;
+
+import com.debate.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 불투명 커서 인코딩/디코딩 유틸리티
+ * 커서 구성 값들을 "|"로 이어 URL-safe Base64로 변환합니다.
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 커서 인코딩
+     *
+     * @param parts 커서 구성 값 (정렬 기준, 정렬값, ID 등)
+     * @return URL-safe Base64 커서
+     */
+    public static String encode(String... parts) {
+        String raw = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @param cursor 이전 응답의 nextCursor
+     * @param expectedParts 커서 구성 값 개수
+     * @return 커서 구성 값 (커서가 없으면 null)
+     * @throws BadRequestException Base64 형식이 아니거나 구성 값 개수가 다른 경우
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+        if (parts.length != expectedParts) {
+            throw new BadRequestException("잘못된 커서입니다");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,47 @@
+package com.debate.util;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram 파서) 검색어 변환 유틸리티
+ * 사용자 입력을 BOOLEAN MODE 검색식으로 변환합니다.
+ */
+public final class FullTextKeyword {
+    /**
+     * ngram 파서의 기본 토큰 크기 (ngram_token_size = 2)
+     * 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없으므로 LIKE 검색으로 대체합니다.
+     */
+    public static final int MIN_TOKEN_LENGTH = 2;
+
+    private FullTextKeyword() {
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환
+     * 연산자 문자를 제거하고, 모든 단어가 포함되도록 각 단어 앞에 '+'를 붙입니다.
+     *
+     * @param keyword 사용자 입력 검색어
+     * @return BOOLEAN MODE 검색식 (FULLTEXT로 검색할 수 없는 경우 null)
+     */
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String cleaned = keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim();
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+
+        String[] tokens = cleaned.split("\\s+");
+        // 토큰 크기보다 짧은 단어가 있으면 FULLTEXT로 정확히 찾을 수 없음
+        if (Arrays.stream(tokens).anyMatch(token -> token.length() < MIN_TOKEN_LENGTH)) {
+            return null;
+        }
+
+        return Arrays.stream(tokens)
+                .map(token -> "+" + token)
+                .collect(Collectors.joining(" "));
+    }
+}
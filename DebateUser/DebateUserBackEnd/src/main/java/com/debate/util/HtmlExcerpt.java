@@ -0,0 +1,50 @@
+package com.debate.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 에디터 HTML 본문에서 목록용 미리보기(순수 텍스트 요약)를 생성하는 유틸리티
+ */
+public final class HtmlExcerpt {
+    /**
+     * 미리보기 최대 글자 수 (초과 시 말줄임표 추가)
+     */
+    public static final int MAX_LENGTH = 150;
+
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern BLOCK_BREAK = Pattern.compile("(?i)<(br|/p|/div|/li|/h[1-6])[^>]*>");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private HtmlExcerpt() {
+    }
+
+    /**
+     * HTML 본문을 미리보기 텍스트로 변환
+     * 태그를 제거하고 자주 쓰이는 HTML 엔티티를 복원한 뒤, 공백을 정리하여 MAX_LENGTH 글자로 자릅니다.
+     *
+     * @param html 에디터 HTML 본문
+     * @return 미리보기 텍스트 (본문이 없으면 빈 문자열)
+     */
+    public static String of(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+
+        String text = SCRIPT_OR_STYLE.matcher(html).replaceAll("");
+        text = BLOCK_BREAK.matcher(text).replaceAll(" ");
+        text = TAG.matcher(text).replaceAll("");
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH)) + "...";
+    }
+}
@@ -0,0 +1,131 @@
+package com.debate.repository;
+
+import com.debate.dto.response.CommentResponse;
+import com.debate.dto.response.DebateResponse;
+import com.debate.entity.Category;
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.debate.entity.DebateSummary;
+import com.debate.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 쿼리 수 검증
+ * 목록 응답 변환(작성자/카테고리 접근)까지 포함해 페이지 크기와 무관하게 쿼리 수가 일정한지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListingStatementCountTest {
+    private static final int USERS = 5;
+    private static final int DEBATES = 12;
+    private static final int COMMENTS = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DebateSummaryRepository debateSummaryRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private Debate commentedDebate;
+    private final List<Long> debateIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            categories.add(entityManager.persist(Category.builder().name("category-" + i).build()));
+        }
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(entityManager.persist(User.builder()
+                    .email("user" + i + "@debate.com")
+                    .password("password")
+                    .nickname("user-" + i)
+                    .build()));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < DEBATES; i++) {
+            Debate debate = entityManager.persist(Debate.builder()
+                    .user(users.get(i % USERS))
+                    .category(categories.get(i % categories.size()))
+                    .title("debate-" + i)
+                    .content("content-" + i)
+                    .startDate(now.minusDays(1))
+                    .endDate(now.plusDays(1))
+                    .build());
+            debateIds.add(debate.getId());
+            if (commentedDebate == null) {
+                commentedDebate = debate;
+            }
+        }
+        for (int i = 0; i < COMMENTS; i++) {
+            entityManager.persist(Comment.builder()
+                    .user(users.get(i % USERS))
+                    .debate(commentedDebate)
+                    .content("comment-" + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void debateListingDoesNotLoadAuthorsOrCategoriesPerRow() {
+        Page<DebateSummary> page = debateSummaryRepository.findByIsHiddenFalse(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<DebateResponse> responses = page.map(DebateResponse::from).getContent();
+
+        assertThat(responses).hasSize(10);
+        // 목록 1회 + COUNT 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void debateLookupByIdsIsSingleStatement() {
+        List<DebateResponse> responses = debateSummaryRepository.findByIdIn(debateIds).stream()
+                .map(DebateResponse::from)
+                .toList();
+
+        assertThat(responses).hasSize(DEBATES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void commentListingDoesNotLoadAuthorsPerRow() {
+        Debate debate = entityManager.getEntityManager().getReference(Debate.class, commentedDebate.getId());
+        statistics.clear();
+
+        Page<Comment> page = commentRepository.findByDebateAndIsHiddenFalseAndParentIsNull(
+                debate, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<CommentResponse> responses = page.map(CommentResponse::from).getContent();
+
+        assertThat(responses).hasSize(10);
+        // 목록 1회 + COUNT 1회 (토론/부모 댓글은 ID만 사용하므로 로딩하지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,180 @@
+package com.debate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ChatWriteBufferTest {
+    // 저장 중 멈춰 있도록 하는 메시지 / 저장에 실패하는 메시지
+    private static final String BLOCKING = "block";
+    private static final String FAILING = "bad";
+
+    private JdbcTemplate jdbcTemplate;
+    private ChatWriteBuffer chatWriteBuffer;
+
+    // INSERT 호출별 메시지 수와 저장된 메시지
+    private final List<Integer> insertSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> stored = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    // 남은 DB 장애 횟수 (0이 될 때까지 INSERT 실패)
+    private final AtomicInteger outages = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            Object[] args = (Object[]) invocation.getRawArguments()[1];
+            List<String> messages = new ArrayList<>();
+            for (int i = 2; i < args.length; i += 4) {
+                messages.add((String) args[i]);
+            }
+            insertSizes.add(messages.size());
+            if (messages.contains(BLOCKING)) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (!messages.contains(BLOCKING) && outages.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            if (messages.contains(FAILING)) {
+                throw new DataIntegrityViolationException("foreign key");
+            }
+            stored.addAll(messages);
+            return messages.size();
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (chatWriteBuffer != null) {
+            chatWriteBuffer.shutdown();
+        }
+    }
+
+    private ChatWriteBuffer buffer(boolean enabled, int capacity) {
+        chatWriteBuffer = new ChatWriteBuffer(jdbcTemplate, new SimpleMeterRegistry(), enabled, capacity, 200, 5);
+        chatWriteBuffer.start();
+        return chatWriteBuffer;
+    }
+
+    private static ChatWriteBuffer.PendingMessage message(String text) {
+        return new ChatWriteBuffer.PendingMessage(1L, 1L, text, LocalDateTime.now());
+    }
+
+    /**
+     * 쓰기 스레드가 첫 메시지 저장에서 멈춰 있는 상태로 만듦
+     */
+    private void blockWriter(ChatWriteBuffer buffer) throws InterruptedException {
+        buffer.enqueue(message(BLOCKING));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void queuedMessagesAreInsertedInOneStatement() throws Exception {
+        ChatWriteBuffer buffer = buffer(true, 100);
+        blockWriter(buffer);
+        buffer.enqueue(message("a"));
+        buffer.enqueue(message("b"));
+        buffer.enqueue(message("c"));
+
+        release.countDown();
+        buffer.shutdown();
+
+        assertThat(insertSizes).containsExactly(1, 3);
+        assertThat(stored).containsExactly(BLOCKING, "a", "b", "c");
+    }
+
+    @Test
+    void failedBatchIsRetriedPerMessageAndDropsOnlyFailedOne() throws Exception {
+        ChatWriteBuffer buffer = buffer(true, 100);
+        blockWriter(buffer);
+        buffer.enqueue(message("a"));
+        buffer.enqueue(message(FAILING));
+        buffer.enqueue(message("c"));
+
+        release.countDown();
+        buffer.shutdown();
+
+        assertThat(insertSizes).containsExactly(1, 3, 1, 1, 1);
+        assertThat(stored).containsExactly(BLOCKING, "a", "c");
+    }
+
+    @Test
+    void transientFailureRetriesWholeBatchWithoutDropping() throws Exception {
+        ChatWriteBuffer buffer = buffer(true, 100);
+        blockWriter(buffer);
+        buffer.enqueue(message("a"));
+        buffer.enqueue(message("b"));
+        buffer.enqueue(message("c"));
+        outages.set(2);
+
+        release.countDown();
+        // 종료 시 남은 메시지는 재시도 없이 저장하므로, 쓰기 스레드가 재시도로 저장을 마칠 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stored.size() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        buffer.shutdown();
+
+        // 장애 중에는 건별로 나누지 않고 같은 묶음을 재시도
+        assertThat(insertSizes).containsExactly(1, 3, 3, 3);
+        assertThat(stored).containsExactly(BLOCKING, "a", "b", "c");
+    }
+
+    @Test
+    void shutdownLetsInFlightWriteFinishAndDrainsQueue() throws Exception {
+        ChatWriteBuffer buffer = buffer(true, 100);
+        blockWriter(buffer);
+        buffer.enqueue(message("a"));
+        buffer.enqueue(message("b"));
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(buffer::shutdown);
+        release.countDown();
+        shutdown.get(15, TimeUnit.SECONDS);
+
+        // 진행 중이던 저장이 인터럽트되지 않고 끝나야 함
+        assertThat(stored).containsExactlyInAnyOrder(BLOCKING, "a", "b");
+    }
+
+    @Test
+    void fullQueueWritesOnCallerThread() throws Exception {
+        ChatWriteBuffer buffer = buffer(true, 1);
+        blockWriter(buffer);
+        buffer.enqueue(message("queued"));
+
+        buffer.enqueue(message("overflow"));
+
+        // 쓰기 스레드가 멈춰 있는 동안 호출 스레드에서 바로 저장됨
+        assertThat(stored).containsExactly("overflow");
+    }
+
+    @Test
+    void disabledBufferWritesImmediately() {
+        ChatWriteBuffer buffer = buffer(false, 100);
+
+        buffer.enqueue(message("a"));
+
+        assertThat(stored).containsExactly("a");
+    }
+}
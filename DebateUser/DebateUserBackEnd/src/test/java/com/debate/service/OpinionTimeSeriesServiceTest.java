@@ -0,0 +1,96 @@
+package com.debate.service;
+
+import com.debate.dto.response.OpinionTallyResponse;
+import com.debate.dto.response.OpinionTimelineResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.repository.OpinionTimeBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OpinionTimeSeriesServiceTest {
+    private OpinionTimeBucketRepository opinionTimeBucketRepository;
+    private OpinionTallyService opinionTallyService;
+    private OpinionTimeSeriesService opinionTimeSeriesService;
+
+    // 배치 upsert로 반영된 FOR 입장 변화량 합계
+    private final AtomicLong flushedFor = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> flushedFor.addAndGet((Long) row[2 + OpinionSide.FOR.ordinal()]));
+            return new int[rows.size()];
+        });
+        opinionTimeBucketRepository = mock(OpinionTimeBucketRepository.class);
+        opinionTallyService = mock(OpinionTallyService.class);
+        opinionTimeSeriesService = new OpinionTimeSeriesService(jdbcTemplate, opinionTimeBucketRepository, opinionTallyService);
+    }
+
+    @Test
+    void recordsDuringFlushAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    opinionTimeSeriesService.record(1L, null, OpinionSide.FOR);
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            opinionTimeSeriesService.flush();
+        }
+        executor.shutdown();
+        opinionTimeSeriesService.flush();
+
+        assertThat(flushedFor).hasValue((long) threads * perThread);
+    }
+
+    @Test
+    void timelineIncludesUnflushedChanges() {
+        // 시계열 기록 이전 인원 2명 + 아직 반영되지 않은 변화량 (FOR 신규 1명, AGAINST→FOR 1명)
+        when(opinionTimeBucketRepository.findByDebateIdOrderByBucketStartAsc(1L)).thenReturn(List.of());
+        when(opinionTallyService.getTally(1L)).thenReturn(tally(3, 1));
+        opinionTimeSeriesService.record(1L, null, OpinionSide.FOR);
+        opinionTimeSeriesService.record(1L, OpinionSide.AGAINST, OpinionSide.FOR);
+
+        OpinionTimelineResponse timeline = opinionTimeSeriesService.getTimeline(1L);
+
+        assertThat(timeline.getBaseline().get(OpinionSide.FOR)).isEqualTo(1);
+        assertThat(timeline.getBaseline().get(OpinionSide.AGAINST)).isEqualTo(2);
+        OpinionTimelineResponse.Point last = timeline.getPoints().get(timeline.getPoints().size() - 1);
+        assertThat(last.getCounts().get(OpinionSide.FOR)).isEqualTo(3);
+        assertThat(last.getCounts().get(OpinionSide.AGAINST)).isEqualTo(1);
+    }
+
+    private static OpinionTallyResponse tally(long forCount, long againstCount) {
+        Map<OpinionSide, Long> counts = new EnumMap<>(OpinionSide.class);
+        for (OpinionSide side : OpinionSide.values()) {
+            counts.put(side, 0L);
+        }
+        counts.put(OpinionSide.FOR, forCount);
+        counts.put(OpinionSide.AGAINST, againstCount);
+        return OpinionTallyResponse.builder().debateId(1L).counts(counts).total(forCount + againstCount).build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.debate.service;
+
+import com.debate.entity.Debate;
+import com.debate.entity.DebateSummary;
+import com.debate.repository.DebateSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrendingServiceTest {
+    private static final Long CATEGORY_ID = 1L;
+
+    private DebateSummaryRepository debateSummaryRepository;
+    private TrendingService trendingService;
+
+    // findByIdIn이 돌려줄 토론의 숨김 여부
+    private boolean hidden;
+
+    @BeforeEach
+    void setUp() {
+        debateSummaryRepository = mock(DebateSummaryRepository.class);
+        when(debateSummaryRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::summary).toList();
+        });
+        trendingService = new TrendingService(debateSummaryRepository);
+    }
+
+    @Test
+    void ranksByWeightedActivity() {
+        trendingService.record(1L, CATEGORY_ID, TrendingService.Activity.VIEW);
+        trendingService.record(2L, CATEGORY_ID, TrendingService.Activity.OPINION);
+        trendingService.record(3L, CATEGORY_ID, TrendingService.Activity.LIKE);
+
+        List<Long> ids = trendingService.findTrending(null, null, 0, 10).stream().map(DebateSummary::getId).toList();
+
+        assertThat(ids).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void rebaseKeepsOrder() {
+        trendingService.record(1L, CATEGORY_ID, TrendingService.Activity.LIKE);
+        trendingService.record(2L, CATEGORY_ID, TrendingService.Activity.COMMENT);
+
+        trendingService.rebase();
+
+        List<Long> ids = trendingService.findTrending(CATEGORY_ID, null, 0, 10).stream().map(DebateSummary::getId).toList();
+        assertThat(ids).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void filteredScanIssuesBoundedQueries() {
+        for (long id = 1; id <= 5000; id++) {
+            trendingService.record(id, CATEGORY_ID, TrendingService.Activity.VIEW);
+        }
+        hidden = true;
+
+        List<DebateSummary> result = trendingService.findTrending(null, null, 0, 20);
+
+        assertThat(result).isEmpty();
+        verify(debateSummaryRepository, atMost(20)).findByIdIn(anyCollection());
+    }
+
+    private DebateSummary summary(Long id) {
+        DebateSummary summary = mock(DebateSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getIsHidden()).thenReturn(hidden);
+        when(summary.getStatus()).thenReturn(Debate.DebateStatus.ACTIVE);
+        return summary;
+    }
+}
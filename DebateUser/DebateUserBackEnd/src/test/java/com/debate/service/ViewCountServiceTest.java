@@ -0,0 +1,95 @@
+package com.debate.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ViewCountServiceTest {
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountService viewCountService;
+
+    // 배치 UPDATE로 반영된 토론별 조회수
+    private final Map<Long, AtomicLong> flushed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> flushed.computeIfAbsent((Long) row[1], id -> new AtomicLong()).addAndGet((Long) row[0]));
+            return new int[rows.size()];
+        });
+        viewCountService = new ViewCountService(jdbcTemplate);
+    }
+
+    @Test
+    void flushWritesAccumulatedViewsOncePerDebate() {
+        viewCountService.increment(1L);
+        viewCountService.increment(1L);
+        viewCountService.increment(2L);
+
+        viewCountService.flush();
+
+        assertThat(flushed.get(1L)).hasValue(2);
+        assertThat(flushed.get(2L)).hasValue(1);
+        assertThat(viewCountService.getPending(1L)).isZero();
+    }
+
+    @Test
+    void flushWithoutViewsDoesNotTouchDatabase() {
+        viewCountService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedFlushKeepsViewsForNextRun() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("db down"));
+        viewCountService.increment(1L);
+        viewCountService.increment(1L);
+
+        viewCountService.flush();
+
+        assertThat(viewCountService.getPending(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void incrementsDuringFlushAreNotLost() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    viewCountService.increment(1L);
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            viewCountService.flush();
+        }
+        executor.shutdown();
+        viewCountService.flush();
+
+        assertThat(flushed.get(1L)).hasValue((long) threads * perThread);
+    }
+}
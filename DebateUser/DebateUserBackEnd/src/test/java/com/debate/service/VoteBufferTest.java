@@ -0,0 +1,145 @@
+package com.debate.service;
+
+import com.debate.dto.response.LikeToggleResponse;
+import com.debate.entity.DebateOpinion.OpinionSide;
+import com.debate.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteBufferTest {
+    private static final long FAILING_USER = 99L;
+
+    private VoteBatchWriter voteBatchWriter;
+
+    // writeOpinions 호출마다 전달된 배치
+    private final List<List<VoteBatchWriter.OpinionVote>> opinionBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        voteBatchWriter = mock(VoteBatchWriter.class);
+        when(voteBatchWriter.writeOpinions(anyList())).thenAnswer(invocation -> {
+            List<VoteBatchWriter.OpinionVote> votes = invocation.getArgument(0);
+            opinionBatches.add(votes);
+            if (votes.stream().anyMatch(vote -> vote.userId() == FAILING_USER)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return votes.stream().map(vote -> new VoteBatchWriter.OpinionResult(true, null)).toList();
+        });
+        when(voteBatchWriter.writeLikes(anyList())).thenAnswer(invocation -> {
+            List<VoteBatchWriter.LikeVote> votes = invocation.getArgument(0);
+            return votes.stream().map(vote -> new LikeToggleResponse(vote.liked(), vote.liked() ? 1 : -1)).toList();
+        });
+    }
+
+    private VoteBuffer buffer(boolean enabled, int capacity, int batchSize) {
+        // start()를 호출하지 않으므로 쓰기 스레드 없이 flush()로만 반영
+        return new VoteBuffer(voteBatchWriter, new SimpleMeterRegistry(), enabled, capacity, 5, batchSize);
+    }
+
+    private static VoteBatchWriter.OpinionVote opinion(long userId, OpinionSide side, String content) {
+        return new VoteBatchWriter.OpinionVote(1L, 10L, userId, side, content);
+    }
+
+    @Test
+    void pendingVotesOfSameUserAreCoalescedIntoLatest() {
+        VoteBuffer voteBuffer = buffer(true, 100, 100);
+
+        CompletableFuture<VoteBatchWriter.OpinionResult> first = voteBuffer.submitOpinion(opinion(1L, OpinionSide.FOR, "처음 의견")).future();
+        CompletableFuture<VoteBatchWriter.OpinionResult> second = voteBuffer.submitOpinion(opinion(1L, OpinionSide.AGAINST, null)).future();
+        voteBuffer.flush();
+
+        assertThat(opinionBatches).hasSize(1);
+        assertThat(opinionBatches.get(0)).containsExactly(opinion(1L, OpinionSide.AGAINST, "처음 의견"));
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(first.join()).isEqualTo(second.join());
+    }
+
+    @Test
+    void flushSplitsPendingVotesIntoBatches() {
+        VoteBuffer voteBuffer = buffer(true, 100, 2);
+        for (long userId = 1; userId <= 5; userId++) {
+            voteBuffer.submitOpinion(opinion(userId, OpinionSide.FOR, null));
+        }
+
+        voteBuffer.flush();
+
+        assertThat(opinionBatches).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void likesKeepLastRequestedState() {
+        VoteBuffer voteBuffer = buffer(true, 100, 100);
+
+        CompletableFuture<LikeToggleResponse> like = voteBuffer.submitLike(new VoteBatchWriter.LikeVote(1L, 1L, true)).future();
+        CompletableFuture<LikeToggleResponse> unlike = voteBuffer.submitLike(new VoteBatchWriter.LikeVote(1L, 1L, false)).future();
+        voteBuffer.flush();
+
+        verify(voteBatchWriter, times(1)).writeLikes(List.of(new VoteBatchWriter.LikeVote(1L, 1L, false)));
+        assertThat(like.join().isLiked()).isFalse();
+        assertThat(unlike.join().isLiked()).isFalse();
+    }
+
+    @Test
+    void disabledOrFullBufferFallsBackToCaller() {
+        assertThat(buffer(false, 100, 100).submitOpinion(opinion(1L, OpinionSide.FOR, null))).isNull();
+
+        VoteBuffer full = buffer(true, 1, 100);
+        assertThat(full.submitOpinion(opinion(1L, OpinionSide.FOR, null))).isNotNull();
+        // 이미 대기 중인 조합은 자리를 차지하지 않으므로 계속 합쳐짐
+        assertThat(full.submitOpinion(opinion(1L, OpinionSide.AGAINST, null))).isNotNull();
+        assertThat(full.submitOpinion(opinion(2L, OpinionSide.FOR, null))).isNull();
+    }
+
+    @Test
+    void failedBatchIsRetriedPerVoteAndFailsOnlyFailedWaiters() {
+        VoteBuffer voteBuffer = buffer(true, 100, 100);
+
+        CompletableFuture<VoteBatchWriter.OpinionResult> ok1 = voteBuffer.submitOpinion(opinion(1L, OpinionSide.FOR, null)).future();
+        CompletableFuture<VoteBatchWriter.OpinionResult> failing = voteBuffer.submitOpinion(opinion(FAILING_USER, OpinionSide.FOR, null)).future();
+        CompletableFuture<VoteBatchWriter.OpinionResult> ok2 = voteBuffer.submitOpinion(opinion(2L, OpinionSide.AGAINST, null)).future();
+        voteBuffer.flush();
+
+        // 전체 배치 1회 + 개별 재시도 3회
+        assertThat(opinionBatches).extracting(List::size).containsExactly(3, 1, 1, 1);
+        assertThat(ok1).isCompletedWithValue(new VoteBatchWriter.OpinionResult(true, null));
+        assertThat(ok2).isCompletedWithValue(new VoteBatchWriter.OpinionResult(true, null));
+        assertThat(failing).isCompletedExceptionally();
+    }
+
+    @Test
+    void timedOutVoteIsWithdrawnAndNeverWritten() {
+        VoteBuffer voteBuffer = buffer(true, 1, 100);
+        VoteBuffer.Submission<VoteBatchWriter.OpinionResult> submission = voteBuffer.submitOpinion(opinion(1L, OpinionSide.FOR, null));
+
+        // 쓰기 스레드가 없으므로 제한 시간이 지나도 반영되지 않음
+        assertThatThrownBy(submission::await).isInstanceOf(ServiceUnavailableException.class);
+        voteBuffer.flush();
+
+        verify(voteBatchWriter, never()).writeOpinions(anyList());
+        // 철회된 요청의 자리는 다시 사용할 수 있음
+        assertThat(voteBuffer.submitOpinion(opinion(2L, OpinionSide.FOR, null))).isNotNull();
+    }
+
+    @Test
+    void flushWithoutPendingVotesDoesNotWrite() {
+        buffer(true, 100, 100).flush();
+
+        verify(voteBatchWriter, never()).writeOpinions(anyList());
+        verify(voteBatchWriter, never()).writeLikes(anyList());
+    }
+}
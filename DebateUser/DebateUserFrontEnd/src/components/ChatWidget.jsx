@@ -290,7 +290,7 @@ const ChatWidget = ({ debateId, debateTitle }) => {
                         ) : (
                             filteredMessages.map((msg, index) => (
                                 <div
-                                    key={msg.id || index}
+                                    key={msg.id || msg.tempId || index}
                                     className={`chat-message ${msg.type === 'JOIN' || msg.type === 'LEAVE' ? 'system' : isMyMessage(msg) ? 'mine' : 'other'}`}
                                 >
                                     {msg.type === 'JOIN' || msg.type === 'LEAVE' ? (
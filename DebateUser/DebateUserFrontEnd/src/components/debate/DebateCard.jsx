@@ -59,7 +59,8 @@ const DebateCard = ({ debate, filterState = {} }) => {
   }
 
   const status = getStatusBadge(debate.status)
-  const plainText = stripHtml(debate.content || '')
+  // 목록 응답은 본문 대신 서버에서 생성한 미리보기(excerpt)를 제공
+  const plainText = debate.excerpt ?? stripHtml(debate.content || '')
 
   return (
     <Link
@@ -6,6 +6,8 @@ import { commentService } from "../services/commentService";
 import { opinionService } from "../services/opinionService";
 import { likeService } from "../services/likeService";
 import { reportService } from "../services/reportService";
+import { subscribeComments } from "../services/commentStream";
+import { subscribeTally } from "../services/tallyStream";
 import { format } from "date-fns";
 import "./DebateDetailPage.css";
 import ChatWidget from "../components/ChatWidget";
@@ -19,7 +21,7 @@ const DebateDetailPage = () => {
   // 데이터 상태
   const [debate, setDebate] = useState(null);
   const [comments, setComments] = useState([]);
-  const [opinions, setOpinions] = useState([]);
+  const [opinionCounts, setOpinionCounts] = useState({});
   const [isLiked, setIsLiked] = useState(false);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
@@ -54,6 +56,23 @@ const DebateDetailPage = () => {
     }
   }, [page, sort]);
 
+  // 댓글 실시간 반영 (다른 사용자의 변경분만 적용, 본인 변경은 이미 화면에 반영됨)
+  useEffect(() => {
+    const unsubscribe = subscribeComments(id, (event) => {
+      if (user && String(event.actorId) === String(user.id)) return;
+      setComments((prev) => applyCommentEvent(prev, event));
+    });
+    return unsubscribe;
+  }, [id, user?.id, page, sort]);
+
+  // 입장 집계 실시간 반영
+  useEffect(() => {
+    const unsubscribe = subscribeTally(id, (tally) => {
+      setOpinionCounts(tally.counts || {});
+    });
+    return unsubscribe;
+  }, [id]);
+
   // 외부 클릭 시 메뉴 닫기
   useEffect(() => {
     const handleClickOutside = (event) => {
@@ -116,9 +135,9 @@ const DebateDetailPage = () => {
       if (!debate) setLoading(true);
       setError(null);
 
-      const [debateRes, opinionsRes] = await Promise.all([
+      const [debateRes, summaryRes] = await Promise.all([
         debateService.getDebateById(id),
-        opinionService.getOpinionsByDebate(id),
+        opinionService.getSummary(id),
       ]);
 
       const debateData = debateRes.data || debateRes;
@@ -129,7 +148,8 @@ const DebateDetailPage = () => {
       }
 
       setDebate(debateData);
-      setOpinions(opinionsRes.data || opinionsRes || []);
+      const summary = summaryRes.data || summaryRes;
+      setOpinionCounts(summary?.counts || {});
 
       // 댓글은 별도 함수로 호출 (페이징/정렬 적용)
       await fetchComments();
@@ -519,6 +539,98 @@ const DebateDetailPage = () => {
     navigate("/debate", { state });
   };
 
+  // 댓글 변경 이벤트(CommentEvent)를 현재 댓글 목록에 적용
+  const applyCommentEvent = (list, event) => {
+    const updateComment = (items, apply) =>
+      items.map((c) => {
+        if (c.id === event.commentId) return apply(c);
+        if (c.replies && c.replies.length > 0) {
+          return { ...c, replies: updateComment(c.replies, apply) };
+        }
+        return c;
+      });
+
+    switch (event.type) {
+      case "CREATED":
+        if (!event.parentId) {
+          // 새 댓글은 첫 페이지의 최신순 목록에만 추가
+          return page === 0 && sort === "latest"
+            ? [{ ...event.comment, replies: [] }, ...list]
+            : list;
+        }
+        return list.map((c) =>
+          c.id === event.parentId
+            ? {
+                ...c,
+                replyCount: (c.replyCount || 0) + 1,
+                replies: [...(c.replies || []), event.comment],
+              }
+            : c
+        );
+      case "UPDATED":
+        return updateComment(list, (c) => ({
+          ...c,
+          content: event.content,
+          updatedAt: new Date().toISOString(),
+        }));
+      case "LIKED":
+        return updateComment(list, (c) => ({ ...c, likeCount: event.likeCount }));
+      case "DELETED":
+        if (event.softDeleted) {
+          return updateComment(list, (c) => ({
+            ...c,
+            isDeleted: true,
+            content: "삭제된 댓글입니다.",
+            nickname: "(삭제)",
+            likeCount: 0,
+          }));
+        }
+        return list
+          .filter((c) => c.id !== event.commentId)
+          .map((c) =>
+            c.id === event.parentId
+              ? {
+                  ...c,
+                  replyCount: Math.max((c.replyCount || 0) - 1, 0),
+                  replies: (c.replies || []).filter(
+                    (r) => r.id !== event.commentId
+                  ),
+                }
+              : c
+          );
+      default:
+        return list;
+    }
+  };
+
+  // 답글 더 보기 (커서 페이징)
+  // 첫 요청은 처음부터 조회하여 목록에 포함된 답글을 대체하고, 이후에는 이어서 조회합니다.
+  const handleLoadMoreReplies = async (comment) => {
+    try {
+      const response = await commentService.getReplies(
+        comment.id,
+        comment.repliesCursor || null
+      );
+      const data = response.data || response;
+
+      setComments((prev) =>
+        prev.map((c) => {
+          if (c.id !== comment.id) return c;
+          return {
+            ...c,
+            replies: c.repliesCursor
+              ? [...(c.replies || []), ...(data.content || [])]
+              : data.content || [],
+            repliesCursor: data.nextCursor,
+            repliesHasNext: data.hasNext,
+          };
+        })
+      );
+    } catch (err) {
+      console.error("답글 로딩 실패:", err);
+    }
+  };
+
   // 댓글 렌더링 헬퍼
   const renderComments = () => {
     if (comments.length === 0) {
@@ -818,6 +930,20 @@ const DebateDetailPage = () => {
             </div>
           )}
 
+          {/* 나머지 답글 더 보기 (목록에는 처음 몇 개의 답글만 포함) */}
+          {(comment.repliesCursor === undefined
+            ? (comment.replyCount || 0) > replies.length
+            : comment.repliesHasNext) && (
+            <button
+              className="more-replies-btn"
+              onClick={() => handleLoadMoreReplies(comment)}
+            >
+              {comment.repliesCursor === undefined
+                ? `답글 ${comment.replyCount - replies.length}개 더 보기`
+                : "답글 더 보기"}
+            </button>
+          )}
+
           {/* 답글 입력 폼 */}
           {replyingTo === comment.id && (
             <div className="reply-form-container">
@@ -861,8 +987,8 @@ const DebateDetailPage = () => {
   const canEdit = isOwner && debate.status === "SCHEDULED";
 
   // 투표 집계
-  const forCount = opinions.filter((o) => o.side === "FOR").length;
-  const againstCount = opinions.filter((o) => o.side === "AGAINST").length;
+  const forCount = opinionCounts.FOR || 0;
+  const againstCount = opinionCounts.AGAINST || 0;
   const totalCount = forCount + againstCount;
   const forPercent =
     totalCount > 0 ? Math.round((forCount / totalCount) * 100) : 0;
@@ -274,8 +274,8 @@ const UserProfilePage = () => {
                       </div>
                       <h3 className="debate-title">{debate.title}</h3>
                       <p className="debate-excerpt">
-                        {stripHtml(debate.content).substring(0, 100)}
-                        {stripHtml(debate.content).length > 100 && '...'}
+                        {(debate.excerpt ?? stripHtml(debate.content)).substring(0, 100)}
+                        {(debate.excerpt ?? stripHtml(debate.content)).length > 100 && '...'}
                       </p>
                       <div className="debate-meta">
                         <span>{formatDate(debate.createdAt)}</span>
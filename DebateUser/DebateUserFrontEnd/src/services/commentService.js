@@ -5,6 +5,7 @@
  * 
  * 주요 기능:
  * - 토론별 댓글 목록 조회 (페이징)
+ * - 답글 목록 조회 (커서 페이징)
  * - 댓글 작성
  * - 댓글 삭제
  */
@@ -30,6 +31,22 @@ export const commentService = {
     return response.data
   },
 
+  /**
+   * 답글 목록 조회 (커서 페이징)
+   *
+   * @param {number} commentId - 부모 댓글 ID
+   * @param {string|null} cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param {number} size - 페이지당 항목 수
+   * @returns {Promise<Object>} ApiResponse 구조의 응답 데이터
+   * @returns {Object} response.data - CursorSliceResponse<CommentResponse> (content, hasNext, nextCursor)
+   */
+  async getReplies(commentId, cursor = null, size = 20) {
+    const response = await api.get(`/comments/${commentId}/replies`, {
+      params: cursor ? { cursor, size } : { size },
+    })
+    return response.data
+  },
+
   /**
    * 댓글 작성
    * 
@@ -0,0 +1,42 @@
+/**
+ * 댓글 실시간 스트림 서비스
+ * WebSocket(STOMP)으로 /topic/debate/{debateId}/comments를 구독하여
+ * 댓글 작성/수정/삭제/좋아요 변경분(CommentEvent)을 전달합니다.
+ */
+
+import { Client } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+
+// API 기본 URL (SockJS 폴백용)
+const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || '';
+
+/**
+ * 토론 댓글 변경 이벤트 구독
+ * @param {Long} debateId - 토론 ID
+ * @param {Function} onEvent - 이벤트 수신 콜백 (CommentEvent)
+ * @returns {Function} 구독 해제 함수
+ */
+export const subscribeComments = (debateId, onEvent) => {
+  const client = new Client({
+    webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws`),
+    reconnectDelay: 5000,
+    heartbeatIncoming: 4000,
+    heartbeatOutgoing: 4000,
+    onConnect: () => {
+      client.subscribe(`/topic/debate/${debateId}/comments`, (message) => {
+        onEvent(JSON.parse(message.body));
+      });
+    },
+    onStompError: (frame) => {
+      console.error('[Comments] STOMP 에러:', frame.headers['message']);
+    },
+  });
+
+  client.activate();
+
+  return () => {
+    client.deactivate();
+  };
+};
+
+export default subscribeComments;
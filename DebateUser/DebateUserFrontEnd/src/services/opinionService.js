@@ -5,7 +5,8 @@
  * 
  * 주요 기능:
  * - 토론에 대한 의견 작성 (찬성 또는 반대)
- * - 토론별 의견 목록 조회
+ * - 토론별 입장 요약 조회 (입장별 인원 수/비율, 내 입장)
+ * - 토론별 의견 목록 조회 (페이징, 입장 필터)
  */
 
 import api from './api'
@@ -28,18 +29,37 @@ export const opinionService = {
     return response.data
   },
 
+  /**
+   * 토론별 입장 요약 조회
+   * 
+   * 입장별 인원 수와 비율, 현재 사용자의 입장을 가져옵니다.
+   * 
+   * @param {number} debateId - 토론 ID
+   * @returns {Promise<Object>} ApiResponse 구조의 응답 데이터
+   * @returns {Object} response.data - OpinionSummaryResponse ({ counts, percentages, total, mySide })
+   */
+  async getSummary(debateId) {
+    const response = await api.get(`/opinions/debate/${debateId}/summary`)
+    return response.data
+  },
+
   /**
    * 토론별 의견 목록 조회
    * 
-   * 특정 토론의 모든 의견(찬성/반대) 목록을 가져옵니다.
+   * 특정 토론의 의견 목록을 페이지 단위로 가져옵니다.
    * 
    * @param {number} debateId - 토론 ID
+   * @param {Object} [options] - 조회 옵션
+   * @param {string} [options.side] - 입장 필터 ('FOR', 'AGAINST', 'NEUTRAL', 'OTHER')
+   * @param {number} [options.page=0] - 페이지 번호
+   * @param {number} [options.size=20] - 페이지 크기
    * @returns {Promise<Object>} ApiResponse 구조의 응답 데이터
-   * @returns {Array} response.data - OpinionResponse[] (의견 목록)
+   * @returns {Object} response.data - Page<OpinionResponse>
    */
-  async getOpinionsByDebate(debateId) {
-    const response = await api.get(`/opinions/debate/${debateId}`)
+  async getOpinionsByDebate(debateId, { side, page = 0, size = 20 } = {}) {
+    const response = await api.get(`/opinions/debate/${debateId}`, {
+      params: { side, page, size },
+    })
     return response.data
   },
 }
-
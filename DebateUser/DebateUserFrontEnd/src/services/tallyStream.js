@@ -0,0 +1,42 @@
+/**
+ * 입장 집계 실시간 스트림 서비스
+ * WebSocket(STOMP)으로 /topic/debate/{debateId}/tally를 구독하여
+ * 입장별 인원 수(OpinionTallyResponse)를 전달합니다. (서버에서 토론당 초당 최대 2회 전송)
+ */
+
+import { Client } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+
+// API 기본 URL (SockJS 폴백용)
+const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || '';
+
+/**
+ * 토론 입장 집계 구독
+ * @param {Long} debateId - 토론 ID
+ * @param {Function} onTally - 집계 수신 콜백 ({ debateId, counts, total })
+ * @returns {Function} 구독 해제 함수
+ */
+export const subscribeTally = (debateId, onTally) => {
+  const client = new Client({
+    webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws`),
+    reconnectDelay: 5000,
+    heartbeatIncoming: 4000,
+    heartbeatOutgoing: 4000,
+    onConnect: () => {
+      client.subscribe(`/topic/debate/${debateId}/tally`, (message) => {
+        onTally(JSON.parse(message.body));
+      });
+    },
+    onStompError: (frame) => {
+      console.error('[Tally] STOMP 에러:', frame.headers['message']);
+    },
+  });
+
+  client.activate();
+
+  return () => {
+    client.deactivate();
+  };
+};
+
+export default subscribeTally;